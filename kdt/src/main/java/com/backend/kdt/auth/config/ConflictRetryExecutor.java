@@ -0,0 +1,96 @@
+package com.backend.kdt.auth.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PessimisticLockException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 충돌 재시도 실행기
+ * - 낙관적 락 충돌, 락 획득 실패/데드락이면 지수 백오프 + 전체 지터(0 ~ 상한 사이 임의 대기) 후 재시도
+ * - 재시도/포기 횟수는 retry.conflict.retries / retry.conflict.exhausted 메트릭 (operation 태그)
+ */
+@Slf4j
+@Component
+public class ConflictRetryExecutor {
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultMaxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    public ConflictRetryExecutor(MeterRegistry meterRegistry,
+                                 @Value("${retry.conflict.max-attempts:3}") int defaultMaxAttempts,
+                                 @Value("${retry.conflict.base-delay-millis:20}") long baseDelayMillis,
+                                 @Value("${retry.conflict.max-delay-millis:200}") long maxDelayMillis) {
+        this.meterRegistry = meterRegistry;
+        this.defaultMaxAttempts = defaultMaxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        return execute(operation, 0, action);
+    }
+
+    /**
+     * action 실행, 충돌이면 maxAttempts까지 재시도 (action은 매번 새 트랜잭션이어야 함)
+     */
+    public <T> T execute(String operation, int maxAttempts, Supplier<T> action) {
+        // 바깥 트랜잭션이 있으면 영속성 컨텍스트가 이미 오염되었으므로 재시도하지 않고 바깥에 맡김
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        int attempts = maxAttempts > 0 ? maxAttempts : defaultMaxAttempts;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (RuntimeException e) {
+                if (!isConflict(e)) {
+                    throw e;
+                }
+                if (attempt >= attempts) {
+                    meterRegistry.counter("retry.conflict.exhausted", "operation", operation).increment();
+                    log.warn("충돌 재시도 포기: operation={}, attempts={}", operation, attempt);
+                    throw e;
+                }
+                meterRegistry.counter("retry.conflict.retries", "operation", operation).increment();
+                log.debug("충돌로 재시도: operation={}, attempt={}, cause={}", operation, attempt, e.toString());
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    private void backoff(int attempt, RuntimeException cause) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 16));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    private boolean isConflict(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof OptimisticLockingFailureException
+                    || t instanceof PessimisticLockingFailureException
+                    || t instanceof OptimisticLockException
+                    || t instanceof PessimisticLockException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+}
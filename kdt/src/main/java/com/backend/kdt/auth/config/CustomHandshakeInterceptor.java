@@ -1,5 +1,6 @@
 package com.backend.kdt.auth.config;
 
+import com.backend.kdt.auth.security.CustomUserDetails;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.http.server.ServletServerHttpRequest;
@@ -21,9 +22,10 @@ public class CustomHandshakeInterceptor implements HandshakeInterceptor {
             HttpServletRequest httpRequest = servletRequest.getServletRequest();
             // SecurityContext에 저장된 인증 정보를 가져옴
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null && authentication.isAuthenticated()) {
-                // 인증된 Principal을 attributes에 저장
-                attributes.put("principal", authentication.getPrincipal());
+            if (authentication != null && authentication.isAuthenticated()
+                    && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+                // userId를 이름으로 하는 Principal을 attributes에 저장 (서비스는 userId로 사용자 알림 전송)
+                attributes.put("principal", new StompPrincipal(String.valueOf(userDetails.getUserId())));
             }
         }
         return true;
@@ -0,0 +1,21 @@
+package com.backend.kdt.auth.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌/데드락 시 트랜잭션 전체 재시도
+ * - @Transactional 메서드에 함께 선언 (재시도는 트랜잭션 바깥에서 감싸서 매번 새 트랜잭션으로 실행)
+ * - 이미 진행 중인 트랜잭션 안에서 호출되면 재시도하지 않음 (바깥 트랜잭션이 롤백 대상이므로)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+
+    /**
+     * 최대 시도 횟수 (0 이하면 retry.conflict.max-attempts 사용)
+     */
+    int maxAttempts() default 0;
+}
@@ -0,0 +1,19 @@
+package com.backend.kdt.auth.config;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // 서비스 기준 시간대의 시계 (일일 제한/자정 초기화 기준, 테스트에서는 고정 시계로 교체)
+    @Bean
+    public Clock clock(@Value("${app.time-zone:Asia/Seoul}") String timeZone) {
+        return Clock.system(ZoneId.of(timeZone));
+    }
+}
@@ -2,10 +2,12 @@ package com.backend.kdt.auth.config;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
+import com.backend.kdt.auth.security.BCryptCostCalibrator;
 import com.backend.kdt.auth.security.JwtRequestFilter;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -84,6 +86,11 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/h2-console/**").permitAll()
+                        // 모니터링: 헬스 체크만 공개, 메트릭 등 나머지 actuator는 인증 필요
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").authenticated()
+                        // 운영자 전용 (대량 경험치 지급 등)
+                        .requestMatchers("/admin/**").hasRole("ADMIN")
                         .anyRequest().permitAll() // 🔓 모든 요청 허용
                 )
                 .exceptionHandling(config -> config
@@ -124,9 +131,10 @@ public class SecurityConfig {
         };
     }
 
-    // 비밀번호 암호화 (BCrypt)
+    // 비밀번호 암호화 (BCrypt, 기동 시 목표 해시 시간에 맞춰 cost 보정)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.target-hash-millis:250}") long targetHashMillis) {
+        return new BCryptPasswordEncoder(BCryptCostCalibrator.calibrate(targetHashMillis));
     }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.backend.kdt.auth.config;
+
+import java.security.Principal;
+
+/**
+ * STOMP 세션 사용자 (이름 = userId, /user/{userId}/queue/... 로 라우팅)
+ */
+public record StompPrincipal(String name) implements Principal {
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
@@ -23,7 +23,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker( "/topic");    // 구독 경로
+        registry.enableSimpleBroker("/topic", "/queue");    // 구독 경로 (/queue: 사용자별 알림)
 //        registry.setApplicationDestinationPrefixes("/pub");   // 발행 경로\    registry.setApplicationDestinationPrefixes("/app");   // ← changed from "/pub" to "/app"
         registry.setApplicationDestinationPrefixes("/app");   // ← changed from "/pub" to "/app"
         registry.setUserDestinationPrefix("/user");           // 사용자 대상 경로
@@ -3,15 +3,23 @@ package com.backend.kdt.auth.controller;
 import com.backend.kdt.auth.dto.ApiResponse;
 import com.backend.kdt.auth.dto.LoginRequest;
 import com.backend.kdt.auth.dto.LoginResponse;
+import com.backend.kdt.auth.dto.PasswordChangeRequest;
 import com.backend.kdt.auth.dto.RegisterRequest;
 import com.backend.kdt.auth.entity.User;
+import com.backend.kdt.auth.security.CustomUserDetails;
+import com.backend.kdt.auth.security.LoginRateLimiter;
+import com.backend.kdt.auth.security.VerifiedToken;
+import com.backend.kdt.auth.service.DuplicateUserNameException;
 import com.backend.kdt.auth.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -33,6 +41,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class RegisterController {
 
     private final UserService userService;
+    private final LoginRateLimiter loginRateLimiter;
 
     @Operation(summary = "회원가입", description = "사용자명, 비밀번호, 성별, 나이로 회원가입을 진행합니다.")
     @PostMapping("/signup")
@@ -58,7 +67,7 @@ public class RegisterController {
             );
 
             // 로그인 쿠키 설정
-            userService.setLoginCookie(response, newUser.getUserName());
+            userService.setLoginCookie(response, newUser);
 
             // 로그인 응답 생성
             LoginResponse loginResponse = userService.loginResponse(newUser);
@@ -67,6 +76,19 @@ public class RegisterController {
                     ApiResponse.onSuccess(loginResponse),
                     HttpStatus.CREATED
             );
+        } catch (DuplicateUserNameException e) {
+            // 동시 가입으로 unique 제약에 걸린 경우
+            return new ResponseEntity<>(
+                    ApiResponse.onFailure("USER_EXISTS", e.getMessage()),
+                    HttpStatus.BAD_REQUEST
+            );
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(
+                    ApiResponse.onFailure("INVALID_REQUEST", e.getMessage()),
+                    HttpStatus.BAD_REQUEST
+            );
+        } catch (RejectedExecutionException e) {
+            return serverBusy(e);
         } catch (Exception e) {
             return new ResponseEntity<>(
                     ApiResponse.onFailure("INTERNAL_ERROR", "회원가입 처리 중 오류가 발생했습니다."),
@@ -79,28 +101,41 @@ public class RegisterController {
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<LoginResponse>> login(
             @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest,
             HttpServletResponse response) {
 
+        // 시도 횟수 제한 (해시/DB 작업 전에 거절, 계정 버킷은 실패한 시도만 누적)
+        long retryAfterSeconds = loginRateLimiter.tryAcquire(resolveClientIp(httpRequest), request.getUserName());
+        if (retryAfterSeconds > 0) {
+            return tooManyAttempts(retryAfterSeconds);
+        }
+
         try {
-            // 사용자 조회
-            User user = userService.getUserByUserNameOrNull(request.getUserName());
+            // 사용자 조회 및 비밀번호 확인 (해시 워커 풀에서 처리)
+            User user = userService.authenticate(request.getUserName(), request.getPassword());
 
             // 사용자 존재 여부 및 비밀번호 확인
-            if (user == null || !userService.matchesPassword(request.getPassword(), user.getPassword())) {
+            if (user == null) {
                 return new ResponseEntity<>(
                         ApiResponse.onFailure("INVALID_CREDENTIALS", "사용자명 또는 비밀번호가 올바르지 않습니다."),
                         HttpStatus.UNAUTHORIZED
                 );
             }
 
+            loginRateLimiter.refund(request.getUserName());
+
             // 로그인 쿠키 설정
-            userService.setLoginCookie(response, user.getUserName());
+            userService.setLoginCookie(response, user);
 
             // 로그인 응답 생성
             LoginResponse loginResponse = userService.loginResponse(user);
 
             return ResponseEntity.ok(ApiResponse.onSuccess(loginResponse));
 
+        } catch (RejectedExecutionException e) {
+            // 비밀번호를 확인하지 못했으므로 실패로 세지 않음
+            loginRateLimiter.refund(request.getUserName());
+            return serverBusy(e);
         } catch (Exception e) {
             return new ResponseEntity<>(
                     ApiResponse.onFailure("INTERNAL_ERROR", "로그인 처리 중 오류가 발생했습니다."),
@@ -114,13 +149,18 @@ public class RegisterController {
     public ResponseEntity<ApiResponse<String>> logout(HttpServletResponse response) {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            VerifiedToken token = authentication != null && authentication.getCredentials() instanceof VerifiedToken t
+                    ? t : null;
 
-            if (authentication != null && authentication.getPrincipal() instanceof UserDetails userDetails) {
+            if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails
+                    && userDetails.getUserId() != null) {
+                userService.logoutUser(userDetails.getUserId(), token, response);
+            } else if (authentication != null && authentication.getPrincipal() instanceof UserDetails userDetails) {
                 String userName = userDetails.getUsername();
                 User user = userService.getUserByUserNameOrNull(userName);
 
                 if (user != null) {
-                    userService.logoutUser(user.getId(), response);
+                    userService.logoutUser(user.getId(), token, response);
                 }
             }
 
@@ -134,6 +174,54 @@ public class RegisterController {
         }
     }
 
+    @PostMapping("/password")
+    @Operation(summary = "비밀번호 변경", description = "현재 비밀번호를 확인한 뒤 변경합니다. 기존에 발급된 토큰은 모두 무효화되고 현재 기기에는 새 토큰이 발급됩니다.")
+    public ResponseEntity<ApiResponse<String>> changePassword(
+            @Valid @RequestBody PasswordChangeRequest request,
+            HttpServletRequest httpRequest,
+            HttpServletResponse response) {
+        Long userId;
+        try {
+            userId = userService.getAuthenticatedUserId();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.onFailure("UNAUTHORIZED", "로그인이 필요합니다."));
+        }
+
+        // 현재 비밀번호 확인도 로그인과 같은 시도 제한 적용 (탈취된 토큰으로 비밀번호를 추측하지 못하도록)
+        String userName = SecurityContextHolder.getContext().getAuthentication().getName();
+        long retryAfterSeconds = loginRateLimiter.tryAcquire(resolveClientIp(httpRequest), userName);
+        if (retryAfterSeconds > 0) {
+            return tooManyAttempts(retryAfterSeconds);
+        }
+
+        try {
+            User user = userService.changePassword(userId, request.getCurrentPassword(), request.getNewPassword());
+            if (user == null) {
+                return new ResponseEntity<>(
+                        ApiResponse.onFailure("INVALID_CREDENTIALS", "현재 비밀번호가 올바르지 않습니다."),
+                        HttpStatus.UNAUTHORIZED
+                );
+            }
+
+            loginRateLimiter.refund(userName);
+            userService.setLoginCookie(response, user);
+            return ResponseEntity.ok(ApiResponse.onSuccess("비밀번호 변경 성공"));
+
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.onFailure("PASSWORD_CHANGED", e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            loginRateLimiter.refund(userName);
+            return serverBusy(e);
+        } catch (Exception e) {
+            return new ResponseEntity<>(
+                    ApiResponse.onFailure("INTERNAL_ERROR", "비밀번호 변경 중 오류가 발생했습니다."),
+                    HttpStatus.INTERNAL_SERVER_ERROR
+            );
+        }
+    }
+
     @GetMapping("/{userId}")
     @Operation(summary = "사용자 정보 조회 (ID로)", description = "사용자 ID로 사용자 정보를 조회합니다.")
     public ResponseEntity<ApiResponse<LoginResponse>> getUserById(
@@ -175,4 +263,23 @@ public class RegisterController {
                     .body(ApiResponse.onFailure("INTERNAL_ERROR", "사용자 정보 조회 중 오류가 발생했습니다."));
         }
     }
-}
\ No newline at end of file
+
+    private <T> ResponseEntity<ApiResponse<T>> tooManyAttempts(long retryAfterSeconds) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ApiResponse.onFailure("TOO_MANY_ATTEMPTS", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    // 비밀번호 해시 워커 풀 포화 시 빠른 거절
+    private <T> ResponseEntity<ApiResponse<T>> serverBusy(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.onFailure("SERVER_BUSY", e.getMessage()));
+    }
+
+    // 클라이언트가 보낸 X-Forwarded-For는 신뢰하지 않음
+    // 프록시 뒤에서는 server.forward-headers-strategy + 신뢰 프록시 목록으로 remoteAddr가 실제 주소로 바뀜
+    private String resolveClientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
@@ -27,7 +28,9 @@ import lombok.Setter;
 })
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 JDBC 배치 insert를 막으므로 pooled 시퀀스 사용 (50개 단위 할당)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq_generator")
+    @SequenceGenerator(name = "user_seq_generator", sequenceName = "users_seq", allocationSize = 50)
     @Column(name = "user_id")
     private Long id;
 
@@ -37,6 +40,11 @@ public class User {
     @Column(name = "password", nullable = false)
     private String password;
 
+    // 토큰 버전 (비밀번호 변경 시 증가 → 이전 토큰 무효화)
+    @Column(name = "token_version", nullable = false)
+    @Builder.Default
+    private Integer tokenVersion = 0;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "gender", nullable = false)
     private Gender gender;
@@ -45,48 +53,16 @@ public class User {
     @Column(name = "age", nullable = false)
     private Age age;
 
-    // 포인트
-    @Column(name = "point")
+    // 포인트 (WalletService의 조건부 UPDATE로만 변경, 엔티티 변경 감지로는 갱신하지 않음)
+    @Column(name = "point", updatable = false)
     @Builder.Default
     private Long point = 0L;
 
-    @Column(name = "consumption_count")
-    @Builder.Default
-    private Integer consumptionCount = 0;
-
-    @Column(name = "cosmetic_count")
-    @Builder.Default
-    private Integer cosmeticCount = 0;
-
     @Column(name = "watched", nullable = false)
     @Builder.Default
     private Boolean watched = false;
 
-    // 꾸미기 아이템 (CONSUMPTION) - 소유 개수만 관리
-    @Column(name = "persimmon_count")
-    @Builder.Default
-    private Integer persimmonCount = 0;
-
-    @Column(name = "green_tea_count")
-    @Builder.Default
-    private Integer greenTeaCount = 0;
-
-    // 성장 아이템 (COSMETIC) - 소유 개수만 관리 (착용은 Character 엔티티에서)
-    @Column(name = "strawberry_hairpin_count")
-    @Builder.Default
-    private Integer strawberryHairpinCount = 0;
-
-    @Column(name = "gongbang_ahjima_count")
-    @Builder.Default
-    private Integer gongbangAhjimaCount = 0;
-
-    @Column(name = "car_crown_count")
-    @Builder.Default
-    private Integer carCrownCount = 0;
-
-    @Column(name = "rose_count")
-    @Builder.Default
-    private Integer roseCount = 0;
+    // 아이템 보유 개수는 user_items 테이블 (UserItemStore)
 
     // 일일 게임 완료 관련 필드
     @Column(name = "daily_game_count")
@@ -1,11 +1,15 @@
 package com.backend.kdt.auth.repository;
 
 import com.backend.kdt.auth.entity.User;
+import java.time.LocalDate;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -19,4 +23,115 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.userName = :userName")
     boolean checkUserNameExists(@Param("userName") String userName);
 
+    @Query("SELECT u.userName FROM User u")
+    Stream<String> streamAllUserNames();
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :userId")
+    Optional<Integer> findTokenVersionById(@Param("userId") Long userId);
+
+    // 사용자 행 잠금 (같은 사용자의 기본 캐릭터 동시 생성을 직렬화)
+    @Query(value = "SELECT user_id FROM users WHERE user_id = :userId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("userId") Long userId);
+
+    // 기존 해시가 그대로일 때만 교체 (동시에 비밀번호가 바뀐 경우 덮어쓰지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
+    // 비밀번호 변경과 토큰 버전 증가를 함께 (기존 해시가 그대로일 때만, 이전에 발급된 토큰은 모두 무효화)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword, u.tokenVersion = u.tokenVersion + 1 "
+            + "WHERE u.id = :userId AND u.password = :oldPassword")
+    int changePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
+    // ===== 일일 활동 횟수: 한도 확인과 증가를 한 번의 조건부 UPDATE로 처리 (영향 행 수 1이면 성공) =====
+    // 이후 조회가 갱신된 횟수를 보도록 영속성 컨텍스트를 비움 (활동 처리의 첫 단계에서만 호출)
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.dailyPetCount = CASE WHEN u.lastPetDate = :today THEN u.dailyPetCount + 1 ELSE 1 END, "
+            + "u.lastPetDate = :today "
+            + "WHERE u.id = :userId AND (u.lastPetDate IS NULL OR u.lastPetDate <> :today OR u.dailyPetCount < :limit)")
+    int incrementDailyPetCount(@Param("userId") Long userId,
+                               @Param("today") LocalDate today,
+                               @Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.dailyGameCount = CASE WHEN u.lastGameDate = :today THEN u.dailyGameCount + 1 ELSE 1 END, "
+            + "u.lastGameDate = :today "
+            + "WHERE u.id = :userId AND (u.lastGameDate IS NULL OR u.lastGameDate <> :today OR u.dailyGameCount < :limit)")
+    int incrementDailyGameCount(@Param("userId") Long userId,
+                                @Param("today") LocalDate today,
+                                @Param("limit") int limit);
+
+    // 먹이주기 (소모품 소비는 같은 트랜잭션에서 UserItemStore로 처리)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.dailyFeedCount = CASE WHEN u.lastFeedDate = :today THEN u.dailyFeedCount + 1 ELSE 1 END, "
+            + "u.lastFeedDate = :today "
+            + "WHERE u.id = :userId AND (u.lastFeedDate IS NULL OR u.lastFeedDate <> :today OR u.dailyFeedCount < :limit)")
+    int incrementDailyFeedCount(@Param("userId") Long userId,
+                                @Param("today") LocalDate today,
+                                @Param("limit") int limit);
+
+    // 올 컴플릿 보너스: 오늘 모든 활동이 한도에 도달했고 아직 받지 않은 경우에만 지급 처리
+    @Modifying
+    @Query("UPDATE User u SET u.lastBonusDate = :today "
+            + "WHERE u.id = :userId AND (u.lastBonusDate IS NULL OR u.lastBonusDate <> :today) "
+            + "AND u.lastPetDate = :today AND u.dailyPetCount >= :petLimit "
+            + "AND u.lastFeedDate = :today AND u.dailyFeedCount >= :feedLimit "
+            + "AND u.lastGameDate = :today AND u.dailyGameCount >= :gameLimit")
+    int claimAllCompleteBonus(@Param("userId") Long userId,
+                              @Param("today") LocalDate today,
+                              @Param("petLimit") int petLimit,
+                              @Param("feedLimit") int feedLimit,
+                              @Param("gameLimit") int gameLimit);
+
+    // ===== 일일 활동 횟수 조회 (엔티티 로드 없이 오늘 기준 횟수만) =====
+
+    @Query("SELECT CASE WHEN u.lastPetDate = :today THEN u.dailyPetCount ELSE 0 END FROM User u WHERE u.id = :userId")
+    Optional<Integer> findTodayPetCount(@Param("userId") Long userId, @Param("today") LocalDate today);
+
+    @Query("SELECT CASE WHEN u.lastFeedDate = :today THEN u.dailyFeedCount ELSE 0 END FROM User u WHERE u.id = :userId")
+    Optional<Integer> findTodayFeedCount(@Param("userId") Long userId, @Param("today") LocalDate today);
+
+    // ===== 자정 초기화: user_id 키셋 청크 단위 =====
+
+    // afterId 이후 limit개 사용자 중 마지막 user_id (없으면 null)
+    @Query(value = "SELECT MAX(user_id) FROM (SELECT user_id FROM users WHERE user_id > :afterId "
+            + "ORDER BY user_id LIMIT :limit) chunk", nativeQuery = true)
+    Long findChunkUpperBound(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    // (afterId, upToId] 구간에서 오늘 이전 날짜의 횟수만 0으로 (자정 직후 이미 오늘 활동한 횟수는 유지)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET "
+            + "u.dailyPetCount = CASE WHEN u.lastPetDate < :today THEN 0 ELSE u.dailyPetCount END, "
+            + "u.dailyFeedCount = CASE WHEN u.lastFeedDate < :today THEN 0 ELSE u.dailyFeedCount END, "
+            + "u.dailyGameCount = CASE WHEN u.lastGameDate < :today THEN 0 ELSE u.dailyGameCount END "
+            + "WHERE u.id > :afterId AND u.id <= :upToId AND ("
+            + "(u.lastPetDate < :today AND u.dailyPetCount > 0) "
+            + "OR (u.lastFeedDate < :today AND u.dailyFeedCount > 0) "
+            + "OR (u.lastGameDate < :today AND u.dailyGameCount > 0))")
+    int resetDailyCounts(@Param("afterId") long afterId,
+                         @Param("upToId") long upToId,
+                         @Param("today") LocalDate today);
+
+    // ===== 포인트 잔액 (WalletService 전용) =====
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.point = u.point + :amount WHERE u.id = :userId")
+    int creditPoint(@Param("userId") Long userId, @Param("amount") long amount);
+
+    // 잔액이 충분할 때만 차감 (영향 행 수 0이면 잔액 부족 또는 사용자 없음)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.point = u.point - :amount WHERE u.id = :userId AND u.point >= :amount")
+    int debitPoint(@Param("userId") Long userId, @Param("amount") long amount);
+
+    @Query("SELECT u.point FROM User u WHERE u.id = :userId")
+    Optional<Long> findPointById(@Param("userId") Long userId);
 }
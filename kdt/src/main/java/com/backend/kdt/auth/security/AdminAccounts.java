@@ -0,0 +1,30 @@
+package com.backend.kdt.auth.security;
+
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+/**
+ * 운영자 계정 (security.admin-user-ids에 설정한 사용자 ID)
+ * - 목록의 사용자에게만 ROLE_ADMIN 부여 → /admin/** 접근 가능
+ * - 설정 변경은 재시작 시 반영 (토큰에 권한을 담지 않으므로 재발급 불필요)
+ */
+@Component
+public class AdminAccounts {
+
+    private static final GrantedAuthority USER = new SimpleGrantedAuthority("USER");
+    private static final GrantedAuthority ADMIN = new SimpleGrantedAuthority("ROLE_ADMIN");
+
+    private final Set<Long> adminUserIds;
+
+    public AdminAccounts(@Value("${security.admin-user-ids:}") List<Long> adminUserIds) {
+        this.adminUserIds = Set.copyOf(adminUserIds);
+    }
+
+    public List<GrantedAuthority> authoritiesOf(Long userId) {
+        return userId != null && adminUserIds.contains(userId) ? List.of(USER, ADMIN) : List.of(USER);
+    }
+}
@@ -0,0 +1,45 @@
+package com.backend.kdt.auth.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 기동 시 BCrypt cost(strength)를 목표 해시 시간에 맞춰 보정
+ * - 목표 시간 이내에 끝나는 가장 높은 cost 선택
+ * - 최소 cost 미만으로는 내려가지 않음
+ */
+@Slf4j
+public final class BCryptCostCalibrator {
+
+    public static final int MIN_STRENGTH = 10;
+    public static final int MAX_STRENGTH = 14;
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample";
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrate(long targetMillis) {
+        // JIT 워밍업
+        new BCryptPasswordEncoder(MIN_STRENGTH).encode(SAMPLE_PASSWORD);
+
+        int selected = MIN_STRENGTH;
+        for (int strength = MIN_STRENGTH; strength <= MAX_STRENGTH; strength++) {
+            long elapsed = measure(strength);
+            if (elapsed > targetMillis) {
+                break;
+            }
+            selected = strength;
+        }
+
+        log.info("BCrypt cost 보정 완료: strength={}, targetMillis={}", selected, targetMillis);
+        return selected;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
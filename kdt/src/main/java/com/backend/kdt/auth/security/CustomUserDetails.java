@@ -1,20 +1,30 @@
 package com.backend.kdt.auth.security;
 
 import com.backend.kdt.auth.entity.User;
-import java.util.List;
+import java.util.Collection;
 import lombok.Getter;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.GrantedAuthority;
 
 @Getter
 public class CustomUserDetails extends org.springframework.security.core.userdetails.User {
     private final Long userId;
 
-    public CustomUserDetails(User user) {
+    public CustomUserDetails(User user, Collection<? extends GrantedAuthority> authorities) {
         super(
                 user.getUserName(),
                 "",
-                List.of(new SimpleGrantedAuthority("USER"))
+                authorities
         );
         this.userId = user.getId();
     }
-}
\ No newline at end of file
+
+    // 토큰 클레임만으로 생성 (DB 조회 없음)
+    public CustomUserDetails(Long userId, String userName, Collection<? extends GrantedAuthority> authorities) {
+        super(
+                userName,
+                "",
+                authorities
+        );
+        this.userId = userId;
+    }
+}
@@ -1,6 +1,8 @@
 package com.backend.kdt.auth.security;
 
 import com.backend.kdt.auth.entity.CookieRule;
+import com.backend.kdt.auth.service.UserTokenVersionService;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -27,6 +29,10 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CookieUtil cookieUtil;
+    private final UserTokenVersionService tokenVersionService;
+    private final SecurityAuditLog auditLog;
+    private final TokenRevocationRegistry revocationRegistry;
+    private final AdminAccounts adminAccounts;
 
     @Override
     protected void doFilterInternal(
@@ -45,12 +51,17 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
         if (jwt != null && !jwt.isEmpty()) {
             try {
-                String email = jwtUtil.extractEmail(jwt);
-                if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    setAuthentication(email, jwt, request);
+                // 토큰은 요청당 한 번만 파싱/검증
+                VerifiedToken token = jwtUtil.verify(jwt);
+                if (revocationRegistry.isRevoked(token.getTokenId())) {
+                    auditLog.record(SecurityEventType.TOKEN_REJECTED, token.getSubject(), jwt, "revoked");
+                } else if (token.getSubject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                    setAuthentication(token, request);
                 }
+            } catch (JwtException e) {
+                // 만료/서명 오류는 JwtUtil에서 이미 기록
             } catch (Exception e) {
-                System.out.println("JWT 필터 처리 중 오류: " + e.getMessage());
+                auditLog.record(SecurityEventType.TOKEN_REJECTED, null, jwt, e.getClass().getSimpleName());
             }
         }
 
@@ -71,14 +82,28 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         return cookieUtil.resolveTokenFromCookie(cookies, CookieRule.ACCESS_TOKEN_NAME);
     }
 
-    private void setAuthentication(String email, String jwt, HttpServletRequest request) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+    private void setAuthentication(VerifiedToken token, HttpServletRequest request) {
+        UserDetails userDetails = resolveUserDetails(token);
 
-        if (jwtUtil.validateToken(jwt, userDetails)) {
+        if (userDetails != null && jwtUtil.validateToken(token, userDetails)) {
+            // credentials에 검증된 토큰을 담아 로그아웃 시 폐기에 사용
             UsernamePasswordAuthenticationToken authToken =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    new UsernamePasswordAuthenticationToken(userDetails, token, userDetails.getAuthorities());
             authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authToken);
         }
     }
-}
\ No newline at end of file
+
+    // 클레임에 사용자 ID/버전이 있으면 DB 조회 없이 principal 생성, 이전 형식 토큰은 DB 조회
+    private UserDetails resolveUserDetails(VerifiedToken token) {
+        if (!token.isStateless()) {
+            return userDetailsService.loadUserByUsername(token.getSubject());
+        }
+        if (!tokenVersionService.isCurrent(token.getUserId(), token.getTokenVersion())) {
+            auditLog.record(SecurityEventType.TOKEN_REJECTED, token.getSubject(), null, "stale token version");
+            return null;
+        }
+        return new CustomUserDetails(token.getUserId(), token.getSubject(),
+                adminAccounts.authoritiesOf(token.getUserId()));
+    }
+}
@@ -1,6 +1,7 @@
 package com.backend.kdt.auth.security;
 
 import com.backend.kdt.auth.entity.CookieRule;
+import com.backend.kdt.auth.entity.User;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -11,9 +12,11 @@ public class JwtService {
 
     private final JwtUtil jwtUtil;
     private final CookieUtil cookieUtil;
+    private final SecurityAuditLog auditLog;
+    private final TokenRevocationRegistry revocationRegistry;
 
-    public void addAccessTokenCookie(HttpServletResponse response, String userEmail) {
-        String token = jwtUtil.generateToken(userEmail);
+    public void addAccessTokenCookie(HttpServletResponse response, User user) {
+        String token = jwtUtil.generateToken(user.getUserName(), user.getId(), user.getTokenVersion());
 
         // 기존 쿠키 먼저 삭제
         clearAccessTokenCookie(response);
@@ -24,7 +27,7 @@ public class JwtService {
                 token,
                 true); // secure 설정
 
-        System.out.println("새로운 JWT 토큰 쿠키 설정 완료: " + token.substring(0, 20) + "...");
+        auditLog.record(SecurityEventType.COOKIE_ISSUED, user.getUserName(), token, null);
     }
 
     public void clearAccessTokenCookie(HttpServletResponse response) {
@@ -33,6 +36,15 @@ public class JwtService {
                 CookieRule.ACCESS_TOKEN_NAME.getValue(),
                 true); // secure 설정
 
-        System.out.println("JWT 쿠키 삭제 완료");
+        auditLog.record(SecurityEventType.COOKIE_CLEARED, null, null, null);
     }
-}
\ No newline at end of file
+
+    // 토큰 폐기 (만료 시각까지 재사용 불가)
+    public void revokeToken(VerifiedToken token) {
+        if (token == null || token.getTokenId() == null) {
+            return;
+        }
+        revocationRegistry.revoke(token.getTokenId(), token.getExpirationMillis());
+        auditLog.record(SecurityEventType.TOKEN_REVOKED, token.getSubject(), null, token.getTokenId());
+    }
+}
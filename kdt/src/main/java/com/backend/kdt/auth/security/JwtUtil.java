@@ -1,18 +1,24 @@
 package com.backend.kdt.auth.security;
 
 
-import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
     @Value("${jwt.secret}")
@@ -20,63 +26,92 @@ public class JwtUtil {
 
     private static final long EXPIRATION_TIME = 1000 * 60 * 60 * 48; // 2일
 
-    // 서명키 생성
-    private Key getSigningKey() {
-        // 수정: Base64 디코딩을 io.jsonwebtoken.io.Decoders 사용으로 변경
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final SecurityAuditLog auditLog;
+
+    // 서명키와 파서는 기동 시 한 번만 생성 (JwtParser는 불변이며 스레드 안전)
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
         byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
-        return Keys.hmacShaKeyFor(keyBytes);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
-    // 토큰 생성 (이메일과 역할을 포함)
-    public String generateToken(String email) {
+    // 토큰 생성 (jti, 이메일, 사용자 ID, 토큰 버전 포함)
+    public String generateToken(String email, Long userId, Integer tokenVersion) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + EXPIRATION_TIME);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(email)
+                .claim(VerifiedToken.USER_ID_CLAIM, userId)
+                .claim(VerifiedToken.TOKEN_VERSION_CLAIM, tokenVersion)
                 .setIssuedAt(now)
                 .setExpiration(expiration)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    // 이메일 추출
-    public String extractEmail(String token) {
-        String email = extractAllClaims(token).getSubject();
-        System.out.println("Extracted Login ID from token: " + email);
-        return email;
+    /**
+     * 토큰을 한 번만 파싱/검증하여 불변 객체로 반환
+     * 이미 검증된 토큰이면 서명 검증 없이 캐시에서 반환
+     */
+    public VerifiedToken verify(String token) {
+        token = token.replace("Bearer ", "");
+
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            auditLog.record(SecurityEventType.TOKEN_VERIFIED, cached.getSubject(), token, "cache");
+            return cached;
+        }
+
+        try {
+            VerifiedToken verified = VerifiedToken.from(jwtParser.parseClaimsJws(token).getBody());
+            verifiedTokenCache.put(token, verified);
+            auditLog.record(SecurityEventType.TOKEN_VERIFIED, verified.getSubject(), token, "signature");
+            return verified;
+        } catch (ExpiredJwtException e) {
+            auditLog.record(SecurityEventType.TOKEN_EXPIRED, e.getClaims().getSubject(), token, null);
+            throw e;
+        } catch (JwtException | IllegalArgumentException e) {
+            auditLog.record(SecurityEventType.TOKEN_REJECTED, null, token, e.getClass().getSimpleName());
+            throw e;
+        }
     }
 
-    // 토큰에서 모든 클레임 추출 (Bearer 접두어 제거 포함)
-    private Claims extractAllClaims(String token) {
-        token = token.replace("Bearer ", "");
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // 이메일 추출
+    public String extractEmail(String token) {
+        return verify(token).getSubject();
     }
 
     // 토큰 유효성 확인 (이메일 일치 및 만료 여부)
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractEmail(token);
+        return validateToken(verify(token), userDetails);
+    }
+
+    // 검증된 토큰 유효성 확인 (재파싱 없음)
+    public Boolean validateToken(VerifiedToken token, UserDetails userDetails) {
+        final String username = token.getSubject();
         boolean isValid = username.equals(userDetails.getUsername()) && !isTokenExpired(token);
-        System.out.println("Validating token for username: " + username + ". Token is valid: " + isValid);
+        if (!isValid) {
+            auditLog.record(SecurityEventType.TOKEN_REJECTED, username, null, "subject mismatch or expired");
+        }
         return isValid;
     }
 
     // 토큰 만료 여부 확인
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = extractAllClaims(token).getExpiration();
-        boolean isExpired = expiration.before(new Date());
-        System.out.println("Token expiration time: " + expiration + ". Is token expired: " + isExpired);
-        return isExpired;
+    private Boolean isTokenExpired(VerifiedToken token) {
+        return token.isExpired(System.currentTimeMillis());
     }
 
     // 토큰 만료 시간 반환
     public Date getExpirationDateFromToken(String token) {
-        Date expiration = extractAllClaims(token).getExpiration();
-        System.out.println("Extracted expiration date from token: " + expiration);
-        return expiration;
+        return verify(token).getExpiration();
     }
-}
\ No newline at end of file
+}
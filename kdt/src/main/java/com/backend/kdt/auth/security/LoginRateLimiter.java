@@ -0,0 +1,141 @@
+package com.backend.kdt.auth.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 시도 제한 (토큰 버킷)
+ * - 클라이언트 IP, 계정(userName) 각각 별도 버킷
+ * - 버킷 상태는 CAS로 갱신 (lock-free), 버킷 맵은 stripe별 LRU로 크기 제한
+ * - BCrypt 검증/DB 조회 전에 호출하여 초과 시도는 즉시 거절
+ * - 계정 버킷은 성공한 로그인 시 되돌려 실패한 시도만 누적 (정상 사용자의 반복 로그인으로 잠기지 않음)
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final int STRIPES = 16;
+
+    private final BucketStripes ipBuckets;
+    private final BucketStripes accountBuckets;
+
+    public LoginRateLimiter(@Value("${security.login-limit.ip.capacity:20}") int ipCapacity,
+                            @Value("${security.login-limit.ip.refill-per-minute:10}") double ipRefillPerMinute,
+                            @Value("${security.login-limit.account.capacity:5}") int accountCapacity,
+                            @Value("${security.login-limit.account.refill-per-minute:1}") double accountRefillPerMinute,
+                            @Value("${security.login-limit.max-tracked-keys:100000}") int maxTrackedKeys) {
+        this.ipBuckets = new BucketStripes(ipCapacity, ipRefillPerMinute, maxTrackedKeys);
+        this.accountBuckets = new BucketStripes(accountCapacity, accountRefillPerMinute, maxTrackedKeys);
+    }
+
+    /**
+     * 로그인 시도 1회 차감
+     * @return 허용이면 0, 거절이면 재시도까지 남은 초 (Retry-After)
+     */
+    public long tryAcquire(String clientIp, String userName) {
+        return tryAcquire(clientIp, userName, System.nanoTime());
+    }
+
+    long tryAcquire(String clientIp, String userName, long now) {
+        long ipWait = ipBuckets.bucket("ip:" + clientIp, now).tryConsume(now);
+        if (ipWait > 0) {
+            return toRetryAfterSeconds(ipWait);
+        }
+        long accountWait = accountBuckets.bucket("user:" + userName, now).tryConsume(now);
+        if (accountWait > 0) {
+            return toRetryAfterSeconds(accountWait);
+        }
+        return 0;
+    }
+
+    /**
+     * 로그인 성공(또는 비밀번호 확인 전 처리 불가) 시 계정 버킷에서 차감한 1회를 되돌림
+     */
+    public void refund(String userName) {
+        refund(userName, System.nanoTime());
+    }
+
+    void refund(String userName, long now) {
+        accountBuckets.bucket("user:" + userName, now).refund(now);
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, (long) Math.ceil(waitNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    /**
+     * stripe별 LRU 맵 (공격자가 IP를 바꿔가며 시도해도 메모리 상한 유지)
+     */
+    private static final class BucketStripes {
+
+        private final Map<String, TokenBucket>[] stripes;
+        private final int capacity;
+        private final double refillPerNano;
+
+        @SuppressWarnings("unchecked")
+        BucketStripes(int capacity, double refillPerMinute, int maxTrackedKeys) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerMinute / TimeUnit.MINUTES.toNanos(1);
+            int maxPerStripe = Math.max(1, maxTrackedKeys / STRIPES);
+            this.stripes = new Map[STRIPES];
+            for (int i = 0; i < STRIPES; i++) {
+                stripes[i] = new LinkedHashMap<>(64, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                        return size() > maxPerStripe;
+                    }
+                };
+            }
+        }
+
+        TokenBucket bucket(String key, long now) {
+            Map<String, TokenBucket> stripe = stripes[(key.hashCode() & Integer.MAX_VALUE) % STRIPES];
+            synchronized (stripe) {
+                return stripe.computeIfAbsent(key, k -> new TokenBucket(capacity, refillPerNano, now));
+            }
+        }
+    }
+
+    private static final class TokenBucket {
+
+        private final int capacity;
+        private final double refillPerNano;
+        private final AtomicReference<State> state;
+
+        TokenBucket(int capacity, double refillPerNano, long now) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerNano;
+            this.state = new AtomicReference<>(new State(capacity, now));
+        }
+
+        // 허용이면 0, 거절이면 토큰 1개가 찰 때까지 남은 나노초
+        long tryConsume(long now) {
+            while (true) {
+                State current = state.get();
+                double tokens = Math.min(capacity, current.tokens + (now - current.timestamp) * refillPerNano);
+                if (tokens < 1.0) {
+                    return (long) Math.ceil((1.0 - tokens) / refillPerNano);
+                }
+                if (state.compareAndSet(current, new State(tokens - 1.0, now))) {
+                    return 0;
+                }
+            }
+        }
+
+        void refund(long now) {
+            while (true) {
+                State current = state.get();
+                double tokens = Math.min(capacity, current.tokens + (now - current.timestamp) * refillPerNano + 1.0);
+                if (state.compareAndSet(current, new State(tokens, now))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private record State(double tokens, long timestamp) {
+    }
+}
@@ -0,0 +1,222 @@
+package com.backend.kdt.auth.security;
+
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보안 감사 로그 채널
+ * - 요청 스레드는 lock-free 링 버퍼에 이벤트를 넣기만 함 (가득 차면 버림, 절대 대기하지 않음)
+ * - 백그라운드 writer 스레드가 배치 단위로 꺼내 롤링 파일에 기록
+ * - 성공 경로 이벤트(TOKEN_VERIFIED)는 샘플링
+ */
+@Slf4j
+@Component
+public class SecurityAuditLog {
+
+    private static final int BATCH_SIZE = 256;
+
+    private final AtomicReferenceArray<SecurityEvent> ring;
+    private final int mask;
+    private final AtomicLong writeSequence = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    // writer 스레드만 변경
+    private volatile long readSequence;
+
+    private final double successSampleRate;
+    private final Path file;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final long flushIntervalNanos;
+
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    private BufferedWriter writer;
+    private long currentFileBytes;
+
+    public SecurityAuditLog(@Value("${security.audit.buffer-size:8192}") int bufferSize,
+                            @Value("${security.audit.success-sample-rate:0.01}") double successSampleRate,
+                            @Value("${security.audit.file:logs/security-audit.log}") String file,
+                            @Value("${security.audit.max-file-bytes:10485760}") long maxFileBytes,
+                            @Value("${security.audit.max-files:5}") int maxFiles,
+                            @Value("${security.audit.flush-interval-millis:200}") long flushIntervalMillis) {
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize - 1)) << 1;
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.successSampleRate = successSampleRate;
+        this.file = Paths.get(file);
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+
+        this.writerThread = new Thread(this::drainLoop, "security-audit-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    public void record(SecurityEventType type, String subject, String token, String detail) {
+        if (type.isSampled() && ThreadLocalRandom.current().nextDouble() >= successSampleRate) {
+            return;
+        }
+        offer(new SecurityEvent(System.currentTimeMillis(), type, subject,
+                TokenDigests.fingerprint(token), detail));
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    // 여러 생산자 → 단일 소비자 링 버퍼 삽입 (CAS로 슬롯 확보)
+    private void offer(SecurityEvent event) {
+        long sequence;
+        do {
+            sequence = writeSequence.get();
+            if (sequence - readSequence >= ring.length()) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!writeSequence.compareAndSet(sequence, sequence + 1));
+
+        ring.lazySet((int) sequence & mask, event);
+    }
+
+    private void drainLoop() {
+        while (running || readSequence < writeSequence.get()) {
+            int drained = drainBatch();
+            if (drained == 0) {
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+        }
+        closeWriter();
+    }
+
+    private int drainBatch() {
+        int drained = 0;
+        try {
+            while (drained < BATCH_SIZE) {
+                long sequence = readSequence;
+                int index = (int) sequence & mask;
+                SecurityEvent event = ring.get(index);
+                if (event == null) {
+                    // 아직 기록되지 않았거나 슬롯 확보 후 게시 전
+                    break;
+                }
+                ring.lazySet(index, null);
+                readSequence = sequence + 1;
+                write(event);
+                drained++;
+            }
+            if (drained > 0 && writer != null) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            log.warn("보안 감사 로그 기록 실패: {}", e.getMessage());
+            closeWriter();
+        }
+        return drained;
+    }
+
+    private void write(SecurityEvent event) throws IOException {
+        if (writer == null || currentFileBytes >= maxFileBytes) {
+            rollIfNeeded();
+        }
+        String line = format(event);
+        writer.write(line);
+        writer.newLine();
+        currentFileBytes += line.length() + 1;
+    }
+
+    private void rollIfNeeded() throws IOException {
+        closeWriter();
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        if (Files.exists(file) && Files.size(file) >= maxFileBytes) {
+            for (int i = maxFiles - 1; i >= 1; i--) {
+                Path source = rolledFile(i);
+                if (Files.exists(source)) {
+                    Files.move(source, rolledFile(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(file, rolledFile(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        currentFileBytes = Files.size(file);
+    }
+
+    private Path rolledFile(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private void closeWriter() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.warn("보안 감사 로그 파일 닫기 실패: {}", e.getMessage());
+        }
+        writer = null;
+    }
+
+    private static String format(SecurityEvent event) {
+        return "{\"ts\":\"" + Instant.ofEpochMilli(event.getTimestamp())
+                + "\",\"type\":\"" + event.getType()
+                + "\",\"subject\":" + quote(event.getSubject())
+                + ",\"token\":" + quote(event.getTokenFingerprint())
+                + ",\"detail\":" + quote(event.getDetail())
+                + "}";
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+}
@@ -0,0 +1,26 @@
+package com.backend.kdt.auth.security;
+
+import lombok.Getter;
+
+/**
+ * 보안 감사 이벤트 (불변)
+ * 토큰은 원문 대신 fingerprint만 보관
+ */
+@Getter
+public final class SecurityEvent {
+
+    private final long timestamp;
+    private final SecurityEventType type;
+    private final String subject;
+    private final String tokenFingerprint;
+    private final String detail;
+
+    public SecurityEvent(long timestamp, SecurityEventType type, String subject,
+                         String tokenFingerprint, String detail) {
+        this.timestamp = timestamp;
+        this.type = type;
+        this.subject = subject;
+        this.tokenFingerprint = tokenFingerprint;
+        this.detail = detail;
+    }
+}
@@ -0,0 +1,19 @@
+package com.backend.kdt.auth.security;
+
+public enum SecurityEventType {
+    // 성공 경로 이벤트는 샘플링하여 기록
+    TOKEN_VERIFIED(true),
+    TOKEN_EXPIRED(false),
+    TOKEN_REJECTED(false),
+    TOKEN_REVOKED(false),
+    COOKIE_ISSUED(false),
+    COOKIE_CLEARED(false);
+
+    private final boolean sampled;
+
+    SecurityEventType(boolean sampled) {
+        this.sampled = sampled;
+    }
+
+    public boolean isSampled() { return sampled; }
+}
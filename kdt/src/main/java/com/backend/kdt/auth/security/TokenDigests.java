@@ -0,0 +1,40 @@
+package com.backend.kdt.auth.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 사용하는 digest 유틸
+ * (캐시 키, 감사 로그 식별자에 토큰 원문을 남기지 않기 위함)
+ */
+public final class TokenDigests {
+
+    private static final int FINGERPRINT_LENGTH = 12;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private TokenDigests() {
+    }
+
+    // SHA-256 digest (base64url)
+    public static String sha256(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    // 로그용 짧은 식별자
+    public static String fingerprint(String token) {
+        if (token == null || token.isEmpty()) {
+            return "-";
+        }
+        return sha256(token).substring(0, FINGERPRINT_LENGTH);
+    }
+}
@@ -0,0 +1,148 @@
+package com.backend.kdt.auth.security;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃된 토큰(jti) 폐기 목록
+ * - 조회: Bloom filter로 대부분 즉시 음성 판정, 양성일 때만 정확한 집합 확인 (lock-free)
+ * - 만료: 토큰 만료 시각 기준 타이밍 휠에서 제거 → 메모리는 유효한 폐기 토큰 수로 제한
+ * - 제거된 항목이 쌓이면 Bloom filter를 정확한 집합으로부터 재구성
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+    private final Queue<String>[] wheel;
+    private final long tickMillis;
+    private final int expectedRevocations;
+
+    // 조회 경로는 락 없이 volatile 참조만 읽음, 쓰기(추가/재구성)끼리만 배타
+    private final ReentrantReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    private volatile BloomFilter bloomFilter;
+    private int removedSinceRebuild;
+    private long lastTick;
+
+    private final ScheduledExecutorService scheduler;
+
+    @SuppressWarnings("unchecked")
+    public TokenRevocationRegistry(@Value("${jwt.revocation.expected-entries:100000}") int expectedRevocations,
+                                   @Value("${jwt.revocation.tick-millis:60000}") long tickMillis,
+                                   @Value("${jwt.revocation.max-token-ttl-millis:172800000}") long maxTokenTtlMillis) {
+        this.expectedRevocations = expectedRevocations;
+        this.tickMillis = tickMillis;
+        this.bloomFilter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+
+        int slots = (int) (maxTokenTtlMillis / tickMillis) + 2;
+        this.wheel = new Queue[slots];
+        for (int i = 0; i < slots; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.lastTick = System.currentTimeMillis() / tickMillis;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 토큰 폐기 (만료 시각이 지나면 자동으로 목록에서 제거)
+     */
+    public void revoke(String tokenId, long expiresAtMillis) {
+        if (tokenId == null || expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        rebuildLock.readLock().lock();
+        try {
+            if (revoked.putIfAbsent(tokenId, expiresAtMillis) == null) {
+                bloomFilter.put(tokenId);
+                wheel[slotOf(expiresAtMillis)].add(tokenId);
+            }
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return revoked.containsKey(tokenId);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    private int slotOf(long expiresAtMillis) {
+        return (int) ((expiresAtMillis / tickMillis) % wheel.length);
+    }
+
+    // 타이밍 휠 한 칸씩 전진하며 만료된 항목 제거
+    private void advance() {
+        try {
+            long now = System.currentTimeMillis();
+            long currentTick = now / tickMillis;
+            // 이미 지나간 칸만 처리 (현재 칸에는 아직 만료 전 항목이 남아 있을 수 있음)
+            for (long tick = lastTick; tick < currentTick; tick++) {
+                expireSlot((int) (tick % wheel.length), now);
+            }
+            lastTick = currentTick;
+
+            if (removedSinceRebuild > 0 && removedSinceRebuild >= revoked.size()) {
+                rebuildBloomFilter();
+            }
+        } catch (Exception e) {
+            log.warn("토큰 폐기 목록 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void expireSlot(int slot, long now) {
+        Iterator<String> iterator = wheel[slot].iterator();
+        while (iterator.hasNext()) {
+            String tokenId = iterator.next();
+            Long expiresAt = revoked.get(tokenId);
+            if (expiresAt == null || expiresAt <= now) {
+                iterator.remove();
+                if (expiresAt != null && revoked.remove(tokenId, expiresAt)) {
+                    removedSinceRebuild++;
+                }
+            }
+        }
+    }
+
+    // 제거된 항목을 Bloom filter에서 털어내기 위해 정확한 집합으로부터 재구성
+    private void rebuildBloomFilter() {
+        rebuildLock.writeLock().lock();
+        try {
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, revoked.size() * 2), FALSE_POSITIVE_RATE);
+            revoked.keySet().forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+            log.debug("토큰 폐기 Bloom filter 재구성: entries={}, removed={}", revoked.size(), removedSinceRebuild);
+            removedSinceRebuild = 0;
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
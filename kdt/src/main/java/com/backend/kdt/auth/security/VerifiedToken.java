@@ -0,0 +1,58 @@
+package com.backend.kdt.auth.security;
+
+import io.jsonwebtoken.Claims;
+import java.util.Date;
+import lombok.Getter;
+
+/**
+ * 서명 검증이 끝난 JWT의 불변 스냅샷
+ * (한 요청에서 토큰을 한 번만 파싱하고, 이후에는 이 객체만 사용)
+ */
+@Getter
+public final class VerifiedToken {
+
+    // 커스텀 클레임 이름
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String TOKEN_VERSION_CLAIM = "ver";
+
+    private final String tokenId;
+    private final String subject;
+    private final Long userId;
+    private final Integer tokenVersion;
+    private final Date issuedAt;
+    private final Date expiration;
+
+    private VerifiedToken(String tokenId, String subject, Long userId, Integer tokenVersion,
+                          Date issuedAt, Date expiration) {
+        this.tokenId = tokenId;
+        this.subject = subject;
+        this.userId = userId;
+        this.tokenVersion = tokenVersion;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+    }
+
+    public static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                claims.getId(),
+                claims.getSubject(),
+                claims.get(USER_ID_CLAIM, Long.class),
+                claims.get(TOKEN_VERSION_CLAIM, Integer.class),
+                claims.getIssuedAt(),
+                claims.getExpiration()
+        );
+    }
+
+    // 사용자 ID/버전 클레임이 있는 토큰인지 (DB 조회 없이 인증 가능)
+    public boolean isStateless() {
+        return userId != null && tokenVersion != null;
+    }
+
+    public long getExpirationMillis() {
+        return expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return getExpirationMillis() <= nowMillis;
+    }
+}
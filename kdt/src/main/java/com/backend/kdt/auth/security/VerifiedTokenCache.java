@@ -0,0 +1,69 @@
+package com.backend.kdt.auth.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미 서명 검증을 통과한 토큰 캐시
+ * - 키: 토큰 원문이 아닌 SHA-256 digest (메모리에 토큰 원문을 남기지 않음)
+ * - 만료 시각이 지난 항목은 조회 시점에 제거
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거 (LRU, 새 토큰도 항상 캐시됨)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Map<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") int maxSize) {
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public VerifiedToken get(String token) {
+        String key = digest(token);
+        synchronized (cache) {
+            VerifiedToken verified = cache.get(key);
+            if (verified == null) {
+                return null;
+            }
+            if (verified.isExpired(System.currentTimeMillis())) {
+                cache.remove(key);
+                return null;
+            }
+            return verified;
+        }
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        if (verified.isExpired(System.currentTimeMillis())) {
+            return;
+        }
+        String key = digest(token);
+        synchronized (cache) {
+            cache.put(key, verified);
+        }
+    }
+
+    public void invalidate(String token) {
+        String key = digest(token);
+        synchronized (cache) {
+            cache.remove(key);
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private static String digest(String token) {
+        return TokenDigests.sha256(token);
+    }
+}
@@ -2,6 +2,7 @@ package com.backend.kdt.auth.service;
 
 import com.backend.kdt.auth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import com.backend.kdt.auth.security.AdminAccounts;
 import com.backend.kdt.auth.security.CustomUserDetails;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -13,11 +14,12 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final AdminAccounts adminAccounts;
 
     @Override
     public UserDetails loadUserByUsername(String userName) throws UsernameNotFoundException {
         return userRepository.findUserByUserName(userName)
-                .map(CustomUserDetails::new)
+                .map(user -> new CustomUserDetails(user, adminAccounts.authoritiesOf(user.getId())))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + userName));
     }
 }
@@ -0,0 +1,18 @@
+package com.backend.kdt.auth.service;
+
+/**
+ * 이미 사용 중인 사용자명으로 가입 시도 (다른 입력 오류와 구분)
+ */
+public class DuplicateUserNameException extends RuntimeException {
+
+    private final String userName;
+
+    public DuplicateUserNameException(String userName) {
+        super("이미 사용 중인 사용자명입니다!");
+        this.userName = userName;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+}
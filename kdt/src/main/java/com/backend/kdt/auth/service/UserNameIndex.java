@@ -0,0 +1,61 @@
+package com.backend.kdt.auth.service;
+
+import com.backend.kdt.auth.repository.UserRepository;
+import com.backend.kdt.auth.security.BloomFilter;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자명 존재 여부 인덱스 (Bloom filter)
+ * - 기동 완료 시 users 테이블에서 적재, 회원가입 시 추가
+ * - "확실히 없음"이면 DB 중복 조회 생략 (최종 판단은 user_name unique 제약)
+ * - 적재 전이거나 "있을 수도 있음"이면 DB 조회로 확인
+ */
+@Slf4j
+@Component
+public class UserNameIndex {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final UserRepository userRepository;
+    private final BloomFilter filter;
+    private volatile boolean loaded;
+
+    public UserNameIndex(UserRepository userRepository,
+                         @Value("${user.name-index.expected-entries:1000000}") int expectedEntries) {
+        this.userRepository = userRepository;
+        this.filter = new BloomFilter(expectedEntries, FALSE_POSITIVE_RATE);
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        LongAdder count = new LongAdder();
+        try (Stream<String> userNames = userRepository.streamAllUserNames()) {
+            userNames.forEach(userName -> {
+                filter.put(userName);
+                count.increment();
+            });
+        }
+        loaded = true;
+        log.info("사용자명 인덱스 적재 완료: {}건, {}ms", count.sum(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * false면 확실히 존재하지 않는 사용자명
+     */
+    public boolean mightExist(String userName) {
+        return !loaded || filter.mightContain(userName);
+    }
+
+    public void add(String userName) {
+        filter.put(userName);
+    }
+}
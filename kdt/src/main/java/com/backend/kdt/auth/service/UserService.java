@@ -5,19 +5,27 @@ import com.backend.kdt.auth.entity.Age;
 import com.backend.kdt.auth.entity.Gender;
 import com.backend.kdt.auth.entity.User;
 import com.backend.kdt.auth.repository.UserRepository;
+import com.backend.kdt.auth.security.CustomUserDetails;
 import com.backend.kdt.auth.security.JwtService;
+import com.backend.kdt.auth.security.VerifiedToken;
 import com.backend.kdt.character.service.CharacterService;
 import com.backend.kdt.character.entity.CharacterType;
+import com.backend.kdt.inventory.service.ItemCounts;
+import com.backend.kdt.inventory.service.UserItemStore;
+import com.backend.kdt.pay.entity.ItemType;
+import com.backend.kdt.shop.entity.ShopItemType;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
@@ -26,29 +34,71 @@ public class UserService {
 
     private final JwtService jwtService;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final CharacterService characterService;
+    private final UserTokenVersionService tokenVersionService;
+    private final UserNameIndex userNameIndex;
+    private final UserItemStore userItemStore;
+    private final TransactionTemplate transactionTemplate;
 
     public User getUserByUserName(String userName) {
         return userRepository.findByUserName(userName)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다." + userName));
     }
 
-    public void setLoginCookie(HttpServletResponse response, String userName) {
-        jwtService.addAccessTokenCookie(response, userName);
+    public void setLoginCookie(HttpServletResponse response, User user) {
+        jwtService.addAccessTokenCookie(response, user);
     }
 
     public boolean matchesPassword(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return passwordHashingService.matches(rawPassword, encodedPassword);
     }
 
-    @Transactional
-    public void resetPassword(String userName, String newPassword) {
-        User user = userRepository.findByUserName(userName)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        String encoded = passwordEncoder.encode(newPassword);
+    /**
+     * 로그인 인증 (실패 시 null)
+     * 저장된 해시의 cost가 현재 설정보다 낮으면 로그인 성공 시 재해시하여 저장
+     */
+    public User authenticate(String userName, String rawPassword) {
+        User user = getUserByUserNameOrNull(userName);
+        if (user == null || !matchesPassword(rawPassword, user.getPassword())) {
+            return null;
+        }
+
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            try {
+                String rehashed = passwordHashingService.encode(rawPassword);
+                if (userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), rehashed) > 0) {
+                    user.setPassword(rehashed);
+                    log.info("비밀번호 해시 cost 갱신: userId={}", user.getId());
+                }
+            } catch (RejectedExecutionException e) {
+                // 재해시는 다음 로그인으로 미룸
+                log.debug("비밀번호 재해시 생략 (워커 풀 포화): userId={}", user.getId());
+            }
+        }
+        return user;
+    }
+
+    /**
+     * 비밀번호 변경 (현재 비밀번호가 틀리면 null)
+     * - 검증/해시는 트랜잭션 밖에서 수행하고, 저장은 조건부 UPDATE 한 번 (그 동안 DB 커넥션을 잡지 않음)
+     * - 토큰 버전을 함께 올려 기존에 발급된 토큰은 모두 무효화 (반환된 사용자로 새 토큰 발급)
+     */
+    public User changePassword(Long userId, String currentPassword, String newPassword) {
+        User user = getUserById(userId);
+        if (!matchesPassword(currentPassword, user.getPassword())) {
+            return null;
+        }
+
+        String encoded = passwordHashingService.encode(newPassword);
+        if (userRepository.changePasswordIfUnchanged(userId, user.getPassword(), encoded) == 0) {
+            throw new IllegalStateException("비밀번호가 동시에 변경되었습니다. 다시 시도해주세요.");
+        }
         user.setPassword(encoded);
-        userRepository.save(user);
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        tokenVersionService.onVersionChanged(userId, user.getTokenVersion());
+        log.info("비밀번호 변경: userId={}", userId);
+        return user;
     }
 
     public User getUserByUserNameOrNull(String userName) {
@@ -56,30 +106,35 @@ public class UserService {
     }
 
     public LoginResponse loginResponse(User user) {
+        ItemCounts items = userItemStore.load(user.getId());
         return LoginResponse.builder()
                 .userId(user.getId())
                 .userName(user.getUserName())
                 .gender(user.getGender())
                 .age(user.getAge())
                 .point(user.getPoint())
-                .consumptionCount(user.getConsumptionCount())
-                .cosmeticCount(user.getCosmeticCount())
+                .consumptionCount(items.total(ItemType.CONSUMPTION))
+                .cosmeticCount(items.total(ItemType.COSMETIC))
                 .watched(user.getWatched())
-                .persimmonCount(user.getPersimmonCount())
-                .greenTeaCount(user.getGreenTeaCount())
-                .strawberryHairpinCount(user.getStrawberryHairpinCount())
-                .gongbangAhjimaCount(user.getGongbangAhjimaCount())
-                .carCrownCount(user.getCarCrownCount())
-                .roseCount(user.getRoseCount())
+                .persimmonCount(items.get(ShopItemType.PERSIMMON))
+                .greenTeaCount(items.get(ShopItemType.GREEN_TEA))
+                .strawberryHairpinCount(items.get(ShopItemType.STRAWBERRY_HAIRPIN))
+                .gongbangAhjimaCount(items.get(ShopItemType.GONGBANG_AHJIMA))
+                .carCrownCount(items.get(ShopItemType.CAR_CROWN))
+                .roseCount(items.get(ShopItemType.ROSE))
                 .build();
     }
 
-    @Transactional
+    /**
+     * 회원가입 + 기본 캐릭터 생성
+     * - 해시 연산은 트랜잭션 밖에서 수행해 그 동안 DB 커넥션을 잡지 않음
+     * - 사용자 저장과 캐릭터 생성은 짧은 트랜잭션 하나로 처리 (하나라도 실패하면 가입 전체 롤백)
+     */
     public User registerUser(String userName, String password, Gender gender, Age age) {
-        if (userRepository.existsByUserName(userName)) {
-            throw new IllegalArgumentException("이미 사용 중인 사용자명입니다!");
+        if (existsByUserName(userName)) {
+            throw new DuplicateUserNameException(userName);
         }
-        String encodedPassword = passwordEncoder.encode(password);
+        String encodedPassword = passwordHashingService.encode(password);
 
         User user = User.builder()
                 .userName(userName)
@@ -87,41 +142,49 @@ public class UserService {
                 .gender(gender)
                 .age(age)
                 .point(0L)
-                .consumptionCount(0)
-                .cosmeticCount(0)
                 .watched(false)
-                .persimmonCount(0)
-                .greenTeaCount(0)
-                .strawberryHairpinCount(0)
-                .gongbangAhjimaCount(0)
-                .carCrownCount(0)
-                .roseCount(0)
                 // 새로 추가된 필드들 초기화
                 .dailyFeedCount(0)
                 .lastFeedDate(null)
                 .lastBonusDate(null)
                 .build();
 
-        User savedUser = userRepository.save(user);
-
-        // 회원가입과 동시에 기본 캐릭터 생성
+        User savedUser;
         try {
-            characterService.createCharacter(savedUser.getId(), "알", CharacterType.EGG);
-            log.info("사용자 및 기본 캐릭터 생성 완료: {}", savedUser.getUserName());
-        } catch (Exception e) {
-            log.warn("캐릭터 생성 실패, 나중에 자동 생성됩니다: userId={}, error={}", savedUser.getId(), e.getMessage());
+            savedUser = transactionTemplate.execute(status -> {
+                User saved = userRepository.saveAndFlush(user);
+                // 회원가입과 동시에 기본 캐릭터 생성
+                characterService.createCharacter(saved.getId(), "알", CharacterType.EGG);
+                return saved;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 인덱스에서 "없음"으로 판단했지만 동시에 같은 이름으로 가입된 경우 (unique 제약이 최종 판단)
+            throw new DuplicateUserNameException(userName);
         }
+        // 커밋된 사용자만 인덱스에 추가
+        userNameIndex.add(savedUser.getUserName());
+        log.info("사용자 및 기본 캐릭터 생성 완료: {}", savedUser.getUserName());
 
         return savedUser;
     }
 
+    // 인덱스에서 확실히 없다고 판단되면 DB 조회 생략
     public boolean existsByUserName(String userName) {
+        if (!userNameIndex.mightExist(userName)) {
+            return false;
+        }
         return userRepository.existsByUserName(userName);
     }
 
     public Long getAuthenticatedUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
+        // 토큰 클레임으로 만든 principal이면 DB 조회 없이 ID 반환
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails
+                && userDetails.getUserId() != null) {
+            return userDetails.getUserId();
+        }
+
         if (authentication != null && authentication.getPrincipal() instanceof UserDetails) {
             String userName = ((UserDetails) authentication.getPrincipal()).getUsername();
             return getUserByUserName(userName).getId();
@@ -135,11 +198,13 @@ public class UserService {
     }
 
     @Transactional
-    public void logoutUser(Long userId, HttpServletResponse response) {
+    public void logoutUser(Long userId, VerifiedToken token, HttpServletResponse response) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         userRepository.save(user);
+        // 쿠키 삭제와 함께 토큰 자체를 폐기 (탈취된 토큰 재사용 방지)
+        jwtService.revokeToken(token);
         jwtService.clearAccessTokenCookie(response);
     }
 
@@ -0,0 +1,87 @@
+package com.backend.kdt.auth.service;
+
+import com.backend.kdt.auth.repository.UserRepository;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 토큰 버전 캐시
+ * - 토큰 클레임의 버전과 비교하여 비밀번호를 변경한 사용자의 이전 토큰을 거부
+ * - 사용자당 최초 1회만 DB에서 조회하고 이후에는 메모리에서 비교
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 사용자부터 제거 (LRU)
+ */
+@Slf4j
+@Service
+public class UserTokenVersionService {
+
+    // 존재하지 않는 사용자 (모든 토큰 거부)
+    private static final int REVOKED = -1;
+
+    private final UserRepository userRepository;
+    private final Map<Long, Integer> versions;
+
+    public UserTokenVersionService(UserRepository userRepository,
+                                   @Value("${jwt.token-version-cache.max-size:100000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.versions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Integer> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 토큰에 담긴 버전이 현재 사용자 버전과 일치하는지 확인
+     */
+    public boolean isCurrent(Long userId, Integer tokenVersion) {
+        if (userId == null || tokenVersion == null) {
+            return false;
+        }
+        return currentVersion(userId) == tokenVersion;
+    }
+
+    public int currentVersion(Long userId) {
+        synchronized (versions) {
+            Integer version = versions.get(userId);
+            if (version != null) {
+                return version;
+            }
+        }
+
+        int loaded = userRepository.findTokenVersionById(userId).orElse(REVOKED);
+        synchronized (versions) {
+            // 조회 중에 버전 변경이 반영되었으면 그 값을 유지
+            Integer current = versions.putIfAbsent(userId, loaded);
+            return current != null ? current : loaded;
+        }
+    }
+
+    /**
+     * 토큰 버전 변경 반영 (트랜잭션 커밋 후 적용)
+     */
+    public void onVersionChanged(Long userId, int newVersion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    putVersion(userId, newVersion);
+                }
+            });
+        } else {
+            putVersion(userId, newVersion);
+        }
+        log.info("토큰 버전 변경: userId={}, version={}", userId, newVersion);
+    }
+
+    private void putVersion(Long userId, int version) {
+        synchronized (versions) {
+            versions.put(userId, version);
+        }
+    }
+}
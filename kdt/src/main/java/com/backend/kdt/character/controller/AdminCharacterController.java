@@ -0,0 +1,37 @@
+package com.backend.kdt.character.controller;
+
+import com.backend.kdt.auth.dto.ApiResponse;
+import com.backend.kdt.character.dto.BulkExperienceGrantRequestDto;
+import com.backend.kdt.character.dto.BulkExperienceGrantResponseDto;
+import com.backend.kdt.character.service.ExperienceGrantService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 운영자 전용 캐릭터 API (/admin/** 는 SecurityConfig에서 ADMIN 권한 필요)
+ */
+@RestController
+@RequestMapping("/admin/characters")
+@RequiredArgsConstructor
+@Tag(name = "[구현완료] 관리자 캐릭터 API", description = "운영자 전용 캐릭터 기능")
+public class AdminCharacterController {
+
+    private final ExperienceGrantService experienceGrantService;
+
+    @PostMapping("/experience/bulk")
+    @Operation(summary = "대량 경험치 지급", description = "이벤트 등으로 여러 사용자의 캐릭터에 경험치를 한 번에 지급하고, 레벨업/진화한 사용자를 반환합니다. (ADMIN 전용)")
+    public ResponseEntity<ApiResponse<BulkExperienceGrantResponseDto>> grantExperience(
+            @RequestBody BulkExperienceGrantRequestDto request) {
+        try {
+            BulkExperienceGrantResponseDto response =
+                    experienceGrantService.grantExperience(request.getUserIds(), request.getExperience());
+            return ResponseEntity.ok(ApiResponse.onSuccess(response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.onFailure("INVALID_GRANT", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.backend.kdt.character.controller;
+
+import com.backend.kdt.auth.dto.ApiResponse;
+import com.backend.kdt.character.dto.LeaderboardEntryDto;
+import com.backend.kdt.character.service.CharacterLeaderboard;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+@RequiredArgsConstructor
+@Tag(name = "[구현완료] 리더보드 API", description = "캐릭터 레벨/경험치 순위")
+public class LeaderboardController {
+
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_RADIUS = 50;
+
+    private final CharacterLeaderboard leaderboard;
+
+    @GetMapping("/top")
+    @Operation(summary = "상위 순위 조회", description = "레벨, 경험치 순으로 상위 캐릭터를 조회합니다. (최대 100명)")
+    public ResponseEntity<ApiResponse<List<LeaderboardEntryDto>>> getTop(
+            @Parameter(description = "조회 인원") @RequestParam(defaultValue = "10") int limit) {
+        List<LeaderboardEntryDto> top = leaderboard.top(Math.max(1, Math.min(limit, MAX_LIMIT)));
+        return ResponseEntity.ok(ApiResponse.onSuccess(top));
+    }
+
+    @GetMapping("/users/{userId}")
+    @Operation(summary = "내 순위 조회", description = "사용자 캐릭터의 현재 순위를 조회합니다.")
+    public ResponseEntity<ApiResponse<LeaderboardEntryDto>> getRank(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId) {
+        Optional<LeaderboardEntryDto> entry = leaderboard.rankOf(userId);
+        if (entry.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.onFailure("RANK_NOT_FOUND", "순위표에 캐릭터가 없습니다."));
+        }
+        return ResponseEntity.ok(ApiResponse.onSuccess(entry.get()));
+    }
+
+    @GetMapping("/users/{userId}/around")
+    @Operation(summary = "주변 순위 조회", description = "사용자 캐릭터 앞뒤 순위를 조회합니다. (앞뒤 최대 50명)")
+    public ResponseEntity<ApiResponse<List<LeaderboardEntryDto>>> getAround(
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            @Parameter(description = "앞뒤 조회 인원") @RequestParam(defaultValue = "5") int radius) {
+        List<LeaderboardEntryDto> around = leaderboard.around(userId, Math.max(0, Math.min(radius, MAX_RADIUS)));
+        return ResponseEntity.ok(ApiResponse.onSuccess(around));
+    }
+}
@@ -0,0 +1,16 @@
+package com.backend.kdt.character.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkExperienceGrantRequestDto {
+    private List<Long> userIds;
+    private long experience;
+}
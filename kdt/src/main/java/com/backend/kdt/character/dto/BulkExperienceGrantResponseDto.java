@@ -0,0 +1,15 @@
+package com.backend.kdt.character.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BulkExperienceGrantResponseDto {
+    private int requestedCount;            // 요청 사용자 수 (중복 제거)
+    private int grantedCount;              // 경험치가 지급된 캐릭터 수
+    private long experience;               // 1인당 지급 경험치
+    private List<Long> leveledUpUserIds;   // 레벨업한 사용자
+    private List<Long> evolvedUserIds;     // 진화(EGG -> DUCK)한 사용자
+}
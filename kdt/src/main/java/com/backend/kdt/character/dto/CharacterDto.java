@@ -1,6 +1,9 @@
 package com.backend.kdt.character.dto;
 
+import com.backend.kdt.character.entity.Character;
 import com.backend.kdt.character.entity.CharacterType;
+import com.backend.kdt.character.entity.Equipment;
+import com.backend.kdt.shop.entity.ShopItemType;
 import lombok.Builder;
 import lombok.Data;
 
@@ -24,4 +27,31 @@ public class CharacterDto {
     private Boolean equippedGongbangAhjima;
     private Boolean equippedCarCrown;
     private Boolean equippedRose;
-}
\ No newline at end of file
+
+    public static CharacterDto from(Character character) {
+        return of(character.getId(), character.getUser().getId(), character.getCharacterName(),
+                character.getCharacterType(), character.getLevel(), character.getExperience(),
+                character.getEquippedItems());
+    }
+
+    /**
+     * 컬럼 값으로 생성 (엔티티를 로드하지 않는 projection 조회용, equippedItems는 Equipment 비트마스크)
+     */
+    public static CharacterDto of(Long characterId, Long userId, String characterName, CharacterType characterType,
+                                  Integer level, Long experience, int equippedItems) {
+        return CharacterDto.builder()
+                .characterId(characterId)
+                .userId(userId)
+                .characterName(characterName)
+                .characterType(characterType)
+                .characterDisplayName(characterType.getDisplayName())
+                .characterEmoji(characterType.getEmoji())
+                .level(level)
+                .experience(experience)
+                .equippedStrawberryHairpin(Equipment.isEquipped(equippedItems, ShopItemType.STRAWBERRY_HAIRPIN))
+                .equippedGongbangAhjima(Equipment.isEquipped(equippedItems, ShopItemType.GONGBANG_AHJIMA))
+                .equippedCarCrown(Equipment.isEquipped(equippedItems, ShopItemType.CAR_CROWN))
+                .equippedRose(Equipment.isEquipped(equippedItems, ShopItemType.ROSE))
+                .build();
+    }
+}
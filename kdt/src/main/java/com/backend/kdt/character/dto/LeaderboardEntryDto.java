@@ -0,0 +1,17 @@
+package com.backend.kdt.character.dto;
+
+import com.backend.kdt.character.entity.CharacterType;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LeaderboardEntryDto {
+    private int rank;                    // 순위 (1부터)
+    private Long userId;
+    private Long characterId;
+    private String characterName;
+    private CharacterType characterType;
+    private Integer level;
+    private Long experience;
+}
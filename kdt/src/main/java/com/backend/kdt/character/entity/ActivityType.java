@@ -0,0 +1,22 @@
+package com.backend.kdt.character.entity;
+
+public enum ActivityType {
+    // 일일 활동 (표시명, 기본 경험치, 하루 최대 횟수)
+    PET("쓰다듬기", 20, 3),
+    FEED("먹이주기", 20, 3),
+    GAME("게임 완료", 50, 3);
+
+    private final String displayName;
+    private final long experience;
+    private final int dailyLimit;
+
+    ActivityType(String displayName, long experience, int dailyLimit) {
+        this.displayName = displayName;
+        this.experience = experience;
+        this.dailyLimit = dailyLimit;
+    }
+
+    public String getDisplayName() { return displayName; }
+    public long getExperience() { return experience; }
+    public int getDailyLimit() { return dailyLimit; }
+}
@@ -1,6 +1,7 @@
 package com.backend.kdt.character.entity;
 
 import com.backend.kdt.auth.entity.User;
+import com.backend.kdt.shop.entity.ShopItemType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -11,6 +12,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,7 +29,9 @@ import lombok.Setter;
 @Table(name = "characters")
 public class Character {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 JDBC 배치 insert를 막으므로 pooled 시퀀스 사용 (50개 단위 할당)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "character_seq_generator")
+    @SequenceGenerator(name = "character_seq_generator", sequenceName = "characters_seq", allocationSize = 50)
     @Column(name = "character_id")
     private Long id;
 
@@ -54,22 +58,27 @@ public class Character {
     @Builder.Default
     private Long maxExperience = 100L; // 레벨업에 필요한 경험치
 
-    // 착용 중인 치장품들
-    @Column(name = "equipped_strawberry_hairpin")
+    // 착용 중인 치장품 (ShopItemType ordinal 위치의 비트, Equipment 참고)
+    @Column(name = "equipped_items", nullable = false)
     @Builder.Default
-    private Boolean equippedStrawberryHairpin = false;
+    private int equippedItems = 0;
 
-    @Column(name = "equipped_gongbang_ahjima")
-    @Builder.Default
-    private Boolean equippedGongbangAhjima = false;
+    public boolean isEquipped(ShopItemType item) {
+        return Equipment.isEquipped(equippedItems, item);
+    }
 
-    @Column(name = "equipped_car_crown")
-    @Builder.Default
-    private Boolean equippedCarCrown = false;
+    // 같은 슬롯의 다른 아이템은 자동 해제
+    public void equip(ShopItemType item) {
+        equippedItems = Equipment.equip(equippedItems, item);
+    }
 
-    @Column(name = "equipped_rose")
-    @Builder.Default
-    private Boolean equippedRose = false;
+    public void unequip(ShopItemType item) {
+        equippedItems = Equipment.unequip(equippedItems, item);
+    }
+
+    public int getEquippedCount() {
+        return Equipment.count(equippedItems);
+    }
 
     // 경험치 비율 계산
     public double getExperiencePercentage() {
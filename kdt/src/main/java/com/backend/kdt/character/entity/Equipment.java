@@ -0,0 +1,49 @@
+package com.backend.kdt.character.entity;
+
+import com.backend.kdt.shop.entity.ShopItemType;
+
+/**
+ * 착용 상태 비트마스크 연산 (비트 위치 = ShopItemType ordinal)
+ * - 치장품이 추가되어도 컬럼 추가 없이 비트만 늘어남 (int 하나로 32종까지)
+ */
+public final class Equipment {
+
+    static {
+        if (ShopItemType.values().length > Integer.SIZE) {
+            throw new IllegalStateException("착용 마스크는 아이템 32종까지 지원합니다");
+        }
+    }
+
+    private Equipment() {
+    }
+
+    public static int bit(ShopItemType item) {
+        return 1 << item.ordinal();
+    }
+
+    public static boolean isEquipped(int mask, ShopItemType item) {
+        return (mask & bit(item)) != 0;
+    }
+
+    /**
+     * 착용 (같은 슬롯의 다른 아이템은 해제)
+     */
+    public static int equip(int mask, ShopItemType item) {
+        EquipmentSlot slot = EquipmentSlot.of(item);
+        if (slot == null) {
+            throw new IllegalArgumentException("착용할 수 없는 아이템입니다");
+        }
+        return (mask & ~slot.getMask()) | bit(item);
+    }
+
+    public static int unequip(int mask, ShopItemType item) {
+        if (EquipmentSlot.of(item) == null) {
+            throw new IllegalArgumentException("착용할 수 없는 아이템입니다");
+        }
+        return mask & ~bit(item);
+    }
+
+    public static int count(int mask) {
+        return Integer.bitCount(mask);
+    }
+}
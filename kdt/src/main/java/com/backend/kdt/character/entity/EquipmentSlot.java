@@ -0,0 +1,46 @@
+package com.backend.kdt.character.entity;
+
+import com.backend.kdt.shop.entity.ShopItemType;
+
+/**
+ * 착용 슬롯 (같은 슬롯의 아이템은 동시에 착용할 수 없음)
+ * - 슬롯 마스크의 비트 위치는 ShopItemType ordinal
+ */
+public enum EquipmentSlot {
+    // 현재 치장품은 한 번에 하나만 착용
+    COSTUME(ShopItemType.STRAWBERRY_HAIRPIN, ShopItemType.GONGBANG_AHJIMA, ShopItemType.CAR_CROWN, ShopItemType.ROSE);
+
+    private static final EquipmentSlot[] SLOT_BY_ITEM = new EquipmentSlot[ShopItemType.values().length];
+
+    static {
+        for (EquipmentSlot slot : values()) {
+            for (ShopItemType item : slot.items) {
+                if (SLOT_BY_ITEM[item.ordinal()] != null) {
+                    throw new IllegalStateException("아이템이 여러 슬롯에 속해 있습니다: " + item);
+                }
+                SLOT_BY_ITEM[item.ordinal()] = slot;
+            }
+        }
+    }
+
+    private final ShopItemType[] items;
+    private final int mask;
+
+    EquipmentSlot(ShopItemType... items) {
+        this.items = items;
+        int slotMask = 0;
+        for (ShopItemType item : items) {
+            slotMask |= Equipment.bit(item);
+        }
+        this.mask = slotMask;
+    }
+
+    public int getMask() { return mask; }
+
+    /**
+     * 아이템의 슬롯 (착용할 수 없는 아이템이면 null)
+     */
+    public static EquipmentSlot of(ShopItemType item) {
+        return SLOT_BY_ITEM[item.ordinal()];
+    }
+}
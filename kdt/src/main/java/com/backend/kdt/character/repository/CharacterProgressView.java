@@ -0,0 +1,14 @@
+package com.backend.kdt.character.repository;
+
+/**
+ * 캐릭터 진행도 projection (대량 경험치 지급/리더보드 갱신용)
+ */
+public interface CharacterProgressView {
+    Long getCharacterId();
+    Long getUserId();
+    String getCharacterName();
+    String getCharacterType();
+    Integer getLevel();
+    Long getExperience();
+    Long getMaxExperience();
+}
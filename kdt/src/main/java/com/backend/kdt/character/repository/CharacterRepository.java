@@ -1,9 +1,12 @@
 package com.backend.kdt.character.repository;
 
 import com.backend.kdt.character.entity.Character;
+import com.backend.kdt.character.service.CharacterChangedEvent;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,6 +19,27 @@ public interface CharacterRepository extends JpaRepository<Character, Long> {
     @Query("SELECT c FROM Character c WHERE c.user.id = :userId")
     Optional<Character> findCharacterByUserId(@Param("userId") Long userId);
 
+    // 활동 처리용: 캐릭터와 사용자를 한 번의 조회로 로드
+    @Query("SELECT c FROM Character c JOIN FETCH c.user WHERE c.user.id = :userId")
+    Optional<Character> findWithUserByUserId(@Param("userId") Long userId);
+
+    // 대량 경험치 지급용: 대상 캐릭터 행을 잠그고 진행도만 조회
+    @Query(value = "SELECT character_id AS characterId, user_id AS userId, character_name AS characterName, "
+            + "character_type AS characterType, level AS level, "
+            + "experience AS experience, max_experience AS maxExperience "
+            + "FROM characters WHERE user_id IN (:userIds) FOR UPDATE", nativeQuery = true)
+    List<CharacterProgressView> lockProgressByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 레벨이 바뀌지 않는 캐릭터들의 경험치를 한 번에 증가
+    @Modifying
+    @Query("UPDATE Character c SET c.experience = c.experience + :exp WHERE c.id IN :characterIds")
+    int addExperienceByIds(@Param("characterIds") Collection<Long> characterIds, @Param("exp") long exp);
+
+    // 리더보드 재구성용: 순위에 필요한 컬럼만 조회 (엔티티/사용자 로드 없음)
+    @Query("SELECT new com.backend.kdt.character.service.CharacterChangedEvent("
+            + "c.user.id, c.id, c.characterName, c.characterType, c.level, c.experience) FROM Character c")
+    List<CharacterChangedEvent> findAllRankingEntries();
+
     @Query("SELECT c FROM Character c WHERE c.level >= :minLevel")
     List<Character> findByMinLevel(@Param("minLevel") Integer minLevel);
 }
\ No newline at end of file
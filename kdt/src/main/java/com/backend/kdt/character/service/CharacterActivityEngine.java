@@ -0,0 +1,94 @@
+package com.backend.kdt.character.service;
+
+import com.backend.kdt.character.entity.ActivityType;
+import com.backend.kdt.character.entity.Character;
+import com.backend.kdt.character.entity.CharacterType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일일 활동(쓰다듬기/먹이주기/게임) 경험치 계산 엔진
+ * - 횟수 차감이 끝난 뒤 로드된 Character에 대해 경험치, 레벨업, 진화, 보너스를 메모리에서 계산
+ * - DB 접근 없음: 호출 측 트랜잭션이 끝날 때 dirty checking으로 characters UPDATE 한 번만 반영
+ */
+@Slf4j
+@Component
+public class CharacterActivityEngine {
+
+    private static final long BONUS_EXPERIENCE_3RD_GAME = 20;   // 3번째 게임 완료 시 추가 경험치
+    private static final long ALL_COMPLETE_BONUS = 20;         // 올 컴플릿 보너스 경험치
+
+    /**
+     * 활동 1회 경험치 적용
+     *
+     * @param dailyCount       차감 후 오늘 활동 횟수
+     * @param consumedItem     먹이주기로 소비한 소모품 (그 외 null)
+     * @param allCompleteBonus 이번 활동으로 올 컴플릿 보너스를 받는지 여부
+     */
+    public ActivityResult perform(Character character, ActivityType type, int dailyCount,
+                                  String consumedItem, boolean allCompleteBonus) {
+        long experience = type.getExperience();
+        if (type == ActivityType.GAME && dailyCount == type.getDailyLimit()) {
+            experience += BONUS_EXPERIENCE_3RD_GAME;
+        }
+        long bonusExperience = 0;
+        if (allCompleteBonus) {
+            bonusExperience = ALL_COMPLETE_BONUS;
+            log.info("올 컴플릿 보너스 지급: userId={}, bonusExp={}", character.getUser().getId(), ALL_COMPLETE_BONUS);
+        }
+
+        CharacterType typeBefore = character.getCharacterType();
+        int levelsGained = applyExperience(character, experience + bonusExperience);
+        boolean evolved = typeBefore != character.getCharacterType();
+
+        return new ActivityResult(type, experience, bonusExperience, dailyCount, type.getDailyLimit() - dailyCount,
+                consumedItem, levelsGained, evolved);
+    }
+
+    /**
+     * 경험치 추가 및 레벨업/진화 처리, 올린 레벨 수 반환
+     * - 누적 경험치 곡선으로 최종 레벨을 한 번에 계산 (레벨마다 반복하지 않음)
+     */
+    public int applyExperience(Character character, long exp) {
+        int levelBefore = character.getLevel();
+        ExperienceCurve.Progress progress = ExperienceCurve.resolve(
+                ExperienceCurve.totalExperience(levelBefore, character.getExperience()) + exp);
+
+        character.setExperience(progress.experience());
+        if (progress.level() == levelBefore) {
+            return 0;
+        }
+
+        // 첫 레벨업 시 진화 (EGG -> DUCK)
+        if (character.getCharacterType() == CharacterType.EGG) {
+            character.setCharacterType(CharacterType.DUCK);
+            character.setCharacterName("토덕이");
+            log.info("캐릭터 진화! {} -> {}", CharacterType.EGG.getDisplayName(), CharacterType.DUCK.getDisplayName());
+        }
+
+        character.setLevel(progress.level());
+        character.setMaxExperience(progress.maxExperience());
+        log.info("레벨업! 캐릭터: {}, 레벨: {} -> {}", character.getCharacterName(), levelBefore, progress.level());
+        return progress.level() - levelBefore;
+    }
+
+    /**
+     * 활동 처리 결과
+     *
+     * @param experienceGained 활동 경험치 (3번째 게임 보너스 포함)
+     * @param bonusExperience  올 컴플릿 보너스 경험치 (없으면 0)
+     */
+    public record ActivityResult(ActivityType type,
+                                 long experienceGained,
+                                 long bonusExperience,
+                                 int dailyCount,
+                                 int remaining,
+                                 String consumedItem,
+                                 int levelsGained,
+                                 boolean evolved) {
+
+        public long totalExperienceGained() {
+            return experienceGained + bonusExperience;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.backend.kdt.character.service;
+
+import com.backend.kdt.character.entity.Character;
+import com.backend.kdt.character.entity.CharacterType;
+
+/**
+ * 캐릭터 레벨/경험치/이름 변경 이벤트 (변경 후 상태 전체를 담으므로 재적용해도 결과가 같음)
+ * - 경험치는 줄지 않으므로 누적 경험치로 이벤트의 선후를 판단 (커밋 순서와 무관)
+ */
+public record CharacterChangedEvent(Long userId,
+                                    Long characterId,
+                                    String characterName,
+                                    CharacterType characterType,
+                                    Integer level,
+                                    Long experience) {
+
+    public static CharacterChangedEvent from(Character character) {
+        return new CharacterChangedEvent(character.getUser().getId(), character.getId(),
+                character.getCharacterName(), character.getCharacterType(),
+                character.getLevel(), character.getExperience());
+    }
+
+    /**
+     * 누적 경험치 (같은 캐릭터의 두 상태 중 값이 작은 쪽이 이전 상태)
+     */
+    public long totalExperience() {
+        return ExperienceCurve.totalExperience(level, experience);
+    }
+}
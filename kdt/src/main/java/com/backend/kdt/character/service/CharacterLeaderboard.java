@@ -0,0 +1,205 @@
+package com.backend.kdt.character.service;
+
+import com.backend.kdt.character.dto.LeaderboardEntryDto;
+import com.backend.kdt.character.repository.CharacterRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 캐릭터 순위표 (레벨 내림차순 → 경험치 내림차순 → 캐릭터 ID 오름차순)
+ * - 순서 통계 트립으로 상위 N/특정 사용자 순위/주변 순위를 O(log n)에 조회 (DB 정렬 쿼리 없음)
+ * - 시작 시 한 번 DB에서 재구성하고, 이후에는 커밋된 캐릭터 변경 이벤트로 증분 갱신
+ * - 이벤트가 늦게 도착해도 누적 경험치가 더 작으면 무시하므로 순위가 과거 상태로 돌아가지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CharacterLeaderboard {
+
+    private static final Comparator<CharacterChangedEvent> RANKING = (a, b) -> {
+        if (!a.level().equals(b.level())) {
+            return Integer.compare(b.level(), a.level());
+        }
+        if (!a.experience().equals(b.experience())) {
+            return Long.compare(b.experience(), a.experience());
+        }
+        return Long.compare(a.characterId(), b.characterId());
+    };
+
+    private final CharacterRepository characterRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private OrderStatisticTreap<CharacterChangedEvent> ranking = new OrderStatisticTreap<>(RANKING);
+    private Map<Long, CharacterChangedEvent> entriesByUserId = new HashMap<>();
+    // 재구성 중 들어온 이벤트 (재구성 완료 후 순서대로 재적용)
+    private List<CharacterChangedEvent> pendingEvents = new ArrayList<>();
+
+    /**
+     * DB 기준으로 순위표 재구성 (정렬/트리 구성은 잠금 밖에서 수행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pendingEvents == null) {
+                pendingEvents = new ArrayList<>();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.currentTimeMillis();
+        OrderStatisticTreap<CharacterChangedEvent> rebuilt;
+        Map<Long, CharacterChangedEvent> byUserId;
+        try {
+            List<CharacterChangedEvent> entries = new ArrayList<>(characterRepository.findAllRankingEntries());
+            entries.sort(RANKING);
+            byUserId = new HashMap<>(entries.size() * 2);
+            for (CharacterChangedEvent entry : entries) {
+                byUserId.put(entry.userId(), entry);
+            }
+            rebuilt = OrderStatisticTreap.fromSorted(entries, RANKING);
+        } catch (RuntimeException e) {
+            // 재구성 실패: 모아 둔 이벤트를 기존 순위표에 반영하고 대기열 해제 (무한히 쌓이지 않도록)
+            // 시작 이벤트에서 다시 던지면 DB 일시 장애로 애플리케이션 기동이 실패하므로 기록만 하고 기존 순위표 유지
+            lock.writeLock().lock();
+            try {
+                log.error("캐릭터 순위표 재구성 실패, 기존 순위표에 이벤트 {}건 반영", pendingEvents.size(), e);
+                pendingEvents.forEach(this::apply);
+                pendingEvents = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            ranking = rebuilt;
+            entriesByUserId = byUserId;
+            pendingEvents.forEach(this::apply);
+            log.info("캐릭터 순위표 재구성 완료: {}명, 재적용 이벤트 {}건, {}ms",
+                    ranking.size(), pendingEvents.size(), System.currentTimeMillis() - start);
+            pendingEvents = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 캐릭터 변경 반영 (트랜잭션 커밋 후, 트랜잭션 밖에서 발행된 경우 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCharacterChanged(CharacterChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            } else {
+                apply(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 N명
+     */
+    public List<LeaderboardEntryDto> top(int limit) {
+        lock.readLock().lock();
+        try {
+            return toDtos(ranking.range(0, Math.min(limit, ranking.size())), 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자의 순위 (순위표에 없으면 empty)
+     */
+    public Optional<LeaderboardEntryDto> rankOf(Long userId) {
+        lock.readLock().lock();
+        try {
+            CharacterChangedEvent entry = entriesByUserId.get(userId);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            return Optional.of(toDto(entry, ranking.indexOf(entry) + 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 앞뒤 radius명씩 포함한 주변 순위 (순위표에 없으면 빈 목록)
+     */
+    public List<LeaderboardEntryDto> around(Long userId, int radius) {
+        lock.readLock().lock();
+        try {
+            CharacterChangedEvent entry = entriesByUserId.get(userId);
+            if (entry == null) {
+                return List.of();
+            }
+            int index = ranking.indexOf(entry);
+            int from = Math.max(0, index - radius);
+            int to = Math.min(ranking.size(), index + radius + 1);
+            return toDtos(ranking.range(from, to), from);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ranking.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 커밋 후 리스너는 커밋 순서대로 호출된다는 보장이 없으므로 이미 반영된 상태보다 오래된 이벤트는 무시
+    private void apply(CharacterChangedEvent event) {
+        CharacterChangedEvent previous = entriesByUserId.get(event.userId());
+        if (previous != null) {
+            if (event.totalExperience() < previous.totalExperience()) {
+                return;
+            }
+            ranking.remove(previous);
+        }
+        entriesByUserId.put(event.userId(), event);
+        ranking.insert(event);
+    }
+
+    private List<LeaderboardEntryDto> toDtos(List<CharacterChangedEvent> entries, int offset) {
+        List<LeaderboardEntryDto> result = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            result.add(toDto(entries.get(i), offset + i + 1));
+        }
+        return result;
+    }
+
+    private LeaderboardEntryDto toDto(CharacterChangedEvent entry, int rank) {
+        return LeaderboardEntryDto.builder()
+                .rank(rank)
+                .userId(entry.userId())
+                .characterId(entry.characterId())
+                .characterName(entry.characterName())
+                .characterType(entry.characterType())
+                .level(entry.level())
+                .experience(entry.experience())
+                .build();
+    }
+}
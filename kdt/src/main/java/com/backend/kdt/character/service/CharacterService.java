@@ -1,40 +1,45 @@
 package com.backend.kdt.character.service;
 
+import com.backend.kdt.auth.config.RetryOnConflict;
 import com.backend.kdt.auth.entity.User;
 import com.backend.kdt.auth.repository.UserRepository;
 import com.backend.kdt.character.dto.CharacterDto;
+import com.backend.kdt.character.entity.ActivityType;
 import com.backend.kdt.character.entity.Character;
 import com.backend.kdt.character.entity.CharacterType;
 import com.backend.kdt.character.repository.CharacterRepository;
+import com.backend.kdt.character.service.CharacterActivityEngine.ActivityResult;
+import com.backend.kdt.inventory.service.UserItemStore;
 import com.backend.kdt.pay.dto.GameCompletionResponseDto;
 import com.backend.kdt.shop.entity.ShopItemType;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Function;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CharacterService {
 
-    // 경험치 상수
-    private static final long PET_EXPERIENCE = 20;              // 쓰다듬기 경험치
-    private static final long FEED_EXPERIENCE = 20;            // 먹이주기 경험치
-    private static final long GAME_COMPLETION_EXPERIENCE = 50;  // 게임 완료 기본 경험치
-    private static final long BONUS_EXPERIENCE_3RD_GAME = 20;   // 3번째 게임 완료 시 추가 경험치
-    private static final long ALL_COMPLETE_BONUS = 20;         // 올 컴플릿 보너스 경험치
-
-    // 일일 제한 상수
-    private static final int DAILY_PET_LIMIT = 3;              // 하루 최대 쓰다듬기 횟수
-    private static final int DAILY_FEED_LIMIT = 3;             // 하루 최대 먹이주기 횟수
-    private static final int DAILY_GAME_LIMIT = 3;             // 하루 최대 게임 횟수
-
     private final CharacterRepository characterRepository;
     private final UserRepository userRepository;
+    private final CharacterActivityEngine activityEngine;
+    private final DailyActivityLimiter dailyActivityLimiter;
+    private final DefaultCharacterProvisioner characterProvisioner;
+    private final CharacterStateCache characterStateCache;
+    private final UserItemStore userItemStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
     /**
      * 캐릭터 생성 (회원가입 시 호출)
@@ -59,484 +64,217 @@ public class CharacterService {
                 .build();
 
         Character savedCharacter = characterRepository.save(character);
-        return convertToDto(savedCharacter);
+        eventPublisher.publishEvent(CharacterChangedEvent.from(savedCharacter));
+        return cacheAfterCommit(convertToDto(savedCharacter));
     }
 
     /**
      * 사용자의 캐릭터 조회 (없으면 기본 캐릭터 자동 생성)
+     * - 쓰기 사이에는 캐시에서 응답, 동시 미스는 한 번의 조회/생성을 공유
      */
     public CharacterDto getCharacterByUserId(Long userId) {
-        Character character = characterRepository.findByUserId(userId)
-                .orElseGet(() -> {
-                    // 캐릭터가 없으면 기본 EGG 캐릭터 자동 생성
-                    log.info("캐릭터가 없어서 기본 캐릭터 생성: userId={}", userId);
-                    User user = userRepository.findById(userId)
-                            .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다"));
-
-                    Character newCharacter = Character.builder()
-                            .user(user)
-                            .characterName("알")
-                            .characterType(CharacterType.EGG) // 기본은 EGG로 설정
-                            .level(1)
-                            .experience(0L)
-                            .maxExperience(100L)
-                            .build();
-
-                    return characterRepository.save(newCharacter);
-                });
-        return convertToDto(character);
+        return characterStateCache.get(userId, () ->
+                convertToDto(findOrCreateCharacter(userId, characterRepository::findByUserId)));
     }
 
     /**
      * 경험치 추가
      */
     @Transactional
+    @RetryOnConflict
     public CharacterDto addExperience(Long userId, Long exp) {
-        Character character = characterRepository.findByUserId(userId)
-                .orElseGet(() -> {
-                    // 캐릭터가 없으면 기본 캐릭터 생성
-                    log.info("경험치 추가 중 캐릭터가 없어서 기본 캐릭터 생성: userId={}", userId);
-                    User user = userRepository.findById(userId)
-                            .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다"));
-
-                    Character newCharacter = Character.builder()
-                            .user(user)
-                            .characterName("알")
-                            .characterType(CharacterType.EGG)
-                            .level(1)
-                            .experience(0L)
-                            .maxExperience(100L)
-                            .build();
-
-                    return characterRepository.save(newCharacter);
-                });
-
-        character.setExperience(character.getExperience() + exp);
+        Character character = findOrCreateInCurrentTransaction(userId);
 
         // 자동 레벨업 체크
-        while (character.canLevelUp()) {
-            levelUp(character);
-        }
+        CharacterType typeBefore = character.getCharacterType();
+        int levelsGained = activityEngine.applyExperience(character, exp);
 
         Character savedCharacter = characterRepository.save(character);
+        eventPublisher.publishEvent(CharacterChangedEvent.from(savedCharacter));
         log.info("캐릭터 경험치 추가: userId={}, exp={}, newLevel={}", userId, exp, savedCharacter.getLevel());
 
-        return convertToDto(savedCharacter);
+        CharacterDto updated = cacheAfterCommit(convertToDto(savedCharacter));
+        eventPublisher.publishEvent(new CharacterUpdatedEvent(updated,
+                CharacterUpdateType.of(levelsGained, typeBefore != savedCharacter.getCharacterType()),
+                exp, levelsGained, null, null));
+        return updated;
     }
 
     /**
      * 쓰다듬기 처리 및 경험치 지급 (하루 3번 제한)
      */
     @Transactional
+    @RetryOnConflict
     public GameCompletionResponseDto petCharacter(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("유저 없음"));
-
-        // 오늘 날짜로 일일 쓰다듬기 횟수 체크
-        LocalDate today = LocalDate.now();
-
-        // 오늘이 마지막 쓰다듬기 날짜와 다르면 카운트 초기화
-        if (user.getLastPetDate() == null || !user.getLastPetDate().equals(today)) {
-            user.setDailyPetCount(0);
-            user.setLastPetDate(today);
-        }
-
-        // 일일 쓰다듬기 제한 체크
-        if (user.getDailyPetCount() >= DAILY_PET_LIMIT) {
-            throw new IllegalStateException("오늘 쓰다듬기 제한 횟수에 도달했습니다. (최대 3회)");
-        }
-
-        // 쓰다듬기 횟수 증가
-        user.setDailyPetCount(user.getDailyPetCount() + 1);
-
-        // User 엔티티 저장
-        userRepository.save(user);
-
-        // 캐릭터에게 경험치 지급
-        CharacterDto updatedCharacter = addExperience(userId, PET_EXPERIENCE);
-
-        // 올 컴플릿 보너스 체크
-        long bonusExp = checkAndApplyAllCompleteBonus(user);
-
-        String message = String.format("쓰다듬기 완료! 경험치 %d를 획득했습니다. (남은 쓰다듬기: %d회)",
-                PET_EXPERIENCE, DAILY_PET_LIMIT - user.getDailyPetCount());
-
-        if (bonusExp > 0) {
-            updatedCharacter = addExperience(userId, bonusExp);
-            message += String.format(" 🎉 모든 일일 활동을 완료하여 보너스 경험치 %d를 추가로 획득했습니다!", bonusExp);
-        }
-
-        return GameCompletionResponseDto.builder()
-                .userId(userId)
-                .experienceGained((int) (PET_EXPERIENCE + bonusExp))
-                .totalExperience(updatedCharacter.getExperience())
-                .currentLevel(updatedCharacter.getLevel())
-                .dailyGameCount(user.getDailyPetCount())
-                .remainingDailyGames(DAILY_PET_LIMIT - user.getDailyPetCount())
-                .message(message)
-                .completedAt(java.time.LocalDateTime.now())
-                .build();
+        return performActivity(userId, ActivityType.PET, result ->
+                String.format("쓰다듬기 완료! 경험치 %d를 획득했습니다. (남은 쓰다듬기: %d회)",
+                        result.experienceGained(), result.remaining()));
     }
 
     /**
      * 먹이주기 처리 및 소모품 소비 (하루 3번 제한)
      */
     @Transactional
+    @RetryOnConflict
     public GameCompletionResponseDto feedCharacter(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("유저 없음"));
-
-        // 오늘 날짜로 일일 먹이주기 횟수 체크
-        LocalDate today = LocalDate.now();
-
-        // 오늘이 마지막 먹이주기 날짜와 다르면 카운트 초기화
-        if (user.getLastFeedDate() == null || !user.getLastFeedDate().equals(today)) {
-            user.setDailyFeedCount(0);
-            user.setLastFeedDate(today);
-        }
-
-        // 일일 먹이주기 제한 체크
-        if (user.getDailyFeedCount() >= DAILY_FEED_LIMIT) {
-            throw new IllegalStateException("오늘 먹이주기 제한 횟수에 도달했습니다. (최대 3회)");
-        }
-
-        // 소모품 보유 체크 및 소비 (개수가 많은 것부터)
-        String consumedItem = consumeConsumptionItem(user);
-
-        // 먹이주기 횟수 증가
-        user.setDailyFeedCount(user.getDailyFeedCount() + 1);
+        return performActivity(userId, ActivityType.FEED, result ->
+                String.format("먹이주기 완료! %s을(를) 소비하여 경험치 %d를 획득했습니다. (남은 먹이주기: %d회)",
+                        result.consumedItem(), result.experienceGained(), result.remaining()));
+    }
 
-        // User 엔티티 저장
-        userRepository.save(user);
+    /**
+     * 게임 완료 처리 및 경험치 지급 (하루 3번 제한)
+     */
+    @Transactional
+    @RetryOnConflict
+    public GameCompletionResponseDto completeGame(Long userId) {
+        return performActivity(userId, ActivityType.GAME, result -> {
+            long baseExperience = ActivityType.GAME.getExperience();
+            // 3번째 게임 완료 시 보너스 경험치
+            if (result.experienceGained() > baseExperience) {
+                return String.format("게임 완료! 경험치 %d + 보너스 %d를 획득했습니다! 오늘의 게임 완료 횟수가 모두 소진되었습니다.",
+                        baseExperience, result.experienceGained() - baseExperience);
+            }
+            return String.format("게임 완료! 경험치 %d를 획득했습니다.", baseExperience);
+        });
+    }
 
-        // 캐릭터에게 경험치 지급
-        CharacterDto updatedCharacter = addExperience(userId, FEED_EXPERIENCE);
+    /**
+     * 일일 활동 공통 처리
+     * - 횟수 한도 확인/증가는 조건부 UPDATE 한 번 (User 선로드 없음, 동시 요청에도 한도 초과 불가)
+     * - 이후 캐릭터 + 사용자를 fetch join으로 한 번 조회하고, 엔진이 메모리에서 경험치 계산
+     * - 커밋 시 characters UPDATE 한 번
+     */
+    private GameCompletionResponseDto performActivity(Long userId, ActivityType type,
+                                                      Function<ActivityResult, String> messageBuilder) {
+        LocalDate today = LocalDate.now(clock);
+        String consumedItem = dailyActivityLimiter.acquire(userId, type, today);
+
+        // 사용자 행은 위 조건부 UPDATE로 잠겨 있어 같은 사용자의 동시 활동은 직렬화됨 → 같은 트랜잭션에서 생성
+        Character character = characterRepository.findWithUserByUserId(userId)
+                .orElseGet(() -> characterProvisioner.createDefaultInCurrentTransaction(userId));
+        User user = character.getUser();
 
-        // 올 컴플릿 보너스 체크
-        long bonusExp = checkAndApplyAllCompleteBonus(user);
+        boolean allCompleteBonus = dailyActivityLimiter.claimAllCompleteBonus(user, today);
+        ActivityResult result = activityEngine.perform(character, type,
+                dailyActivityLimiter.currentDailyCount(user, type, today), consumedItem, allCompleteBonus);
 
-        String message = String.format("먹이주기 완료! %s을(를) 소비하여 경험치 %d를 획득했습니다. (남은 먹이주기: %d회)",
-                consumedItem, FEED_EXPERIENCE, DAILY_FEED_LIMIT - user.getDailyFeedCount());
+        eventPublisher.publishEvent(CharacterChangedEvent.from(character));
+        CharacterDto updated = cacheAfterCommit(convertToDto(character));
+        eventPublisher.publishEvent(new CharacterUpdatedEvent(updated,
+                CharacterUpdateType.of(result.levelsGained(), result.evolved()),
+                result.totalExperienceGained(), result.levelsGained(), type, result.remaining()));
 
-        if (bonusExp > 0) {
-            updatedCharacter = addExperience(userId, bonusExp);
-            message += String.format(" 🎉 모든 일일 활동을 완료하여 보너스 경험치 %d를 추가로 획득했습니다!", bonusExp);
+        String message = messageBuilder.apply(result);
+        if (result.bonusExperience() > 0) {
+            message += String.format(" 🎉 모든 일일 활동을 완료하여 보너스 경험치 %d를 추가로 획득했습니다!",
+                    result.bonusExperience());
         }
 
         return GameCompletionResponseDto.builder()
                 .userId(userId)
-                .experienceGained((int) (FEED_EXPERIENCE + bonusExp))
-                .totalExperience(updatedCharacter.getExperience())
-                .currentLevel(updatedCharacter.getLevel())
-                .dailyGameCount(user.getDailyFeedCount())
-                .remainingDailyGames(DAILY_FEED_LIMIT - user.getDailyFeedCount())
+                .experienceGained((int) result.totalExperienceGained())
+                .totalExperience(character.getExperience())
+                .currentLevel(character.getLevel())
+                .dailyGameCount(result.dailyCount())
+                .remainingDailyGames(result.remaining())
                 .message(message)
-                .completedAt(java.time.LocalDateTime.now())
+                .completedAt(LocalDateTime.now(clock))
                 .build();
     }
 
     /**
-     * 소모품 소비 처리 (개수가 많은 것부터)
+     * 캐릭터 조회, 없으면 기본 캐릭터 생성 후 다시 조회 (트랜잭션 밖에서만 호출)
+     * - 동시 요청이 먼저 생성해 유니크 제약에 걸리면 그 캐릭터를 사용
      */
-    private String consumeConsumptionItem(User user) {
-        int persimmonCount = user.getPersimmonCount();
-        int greenTeaCount = user.getGreenTeaCount();
-
-        // 소모품이 하나도 없는 경우
-        if (persimmonCount == 0 && greenTeaCount == 0) {
-            throw new IllegalStateException("먹이를 줄 소모품이 없습니다. 영상을 시청하여 소모품을 획득해주세요.");
+    private Character findOrCreateCharacter(Long userId, Function<Long, Optional<Character>> finder) {
+        Optional<Character> found = finder.apply(userId);
+        if (found.isPresent()) {
+            return found.get();
         }
 
-        // 개수가 많은 것부터 소비
-        if (persimmonCount >= greenTeaCount && persimmonCount > 0) {
-            user.setPersimmonCount(persimmonCount - 1);
-            user.setConsumptionCount(user.getConsumptionCount() - 1);
-            return "단감";
-        } else if (greenTeaCount > 0) {
-            user.setGreenTeaCount(greenTeaCount - 1);
-            user.setConsumptionCount(user.getConsumptionCount() - 1);
-            return "녹차";
-        } else {
-            throw new IllegalStateException("먹이를 줄 소모품이 없습니다.");
+        log.info("캐릭터가 없어서 기본 캐릭터 생성: userId={}", userId);
+        try {
+            characterProvisioner.createDefault(userId);
+        } catch (DataIntegrityViolationException e) {
+            log.info("다른 요청이 먼저 기본 캐릭터를 생성함: userId={}", userId);
         }
+        return finder.apply(userId)
+                .orElseThrow(() -> new IllegalStateException("기본 캐릭터 생성에 실패했습니다"));
     }
 
     /**
-     * 올 컴플릿 보너스 체크 및 적용
+     * 트랜잭션 안에서 캐릭터 조회, 없으면 같은 트랜잭션에서 기본 캐릭터 생성
+     * - 독립 트랜잭션은 커넥션을 하나 더 잡으므로 풀 크기가 1이면 영영 얻지 못함
+     * - 사용자 행을 잠근 뒤 다시 확인해 같은 사용자의 동시 생성을 직렬화 (유니크 제약 위반으로 트랜잭션이 깨지지 않음)
      */
-    private long checkAndApplyAllCompleteBonus(User user) {
-        LocalDate today = LocalDate.now();
-
-        // 오늘의 모든 일일 활동이 완료되었는지 체크
-        boolean gameComplete = user.getLastGameDate() != null &&
-                user.getLastGameDate().equals(today) &&
-                user.getDailyGameCount() >= DAILY_GAME_LIMIT;
-
-        boolean petComplete = user.getLastPetDate() != null &&
-                user.getLastPetDate().equals(today) &&
-                user.getDailyPetCount() >= DAILY_PET_LIMIT;
-
-        boolean feedComplete = user.getLastFeedDate() != null &&
-                user.getLastFeedDate().equals(today) &&
-                user.getDailyFeedCount() >= DAILY_FEED_LIMIT;
-
-        // 모든 활동이 완료되었고, 아직 보너스를 받지 않은 경우
-        if (gameComplete && petComplete && feedComplete) {
-            // 오늘 보너스를 이미 받았는지 체크
-            if (user.getLastBonusDate() == null || !user.getLastBonusDate().equals(today)) {
-                user.setLastBonusDate(today);
-                userRepository.save(user);
-                log.info("올 컴플릿 보너스 지급: userId={}, bonusExp={}", user.getId(), ALL_COMPLETE_BONUS);
-                return ALL_COMPLETE_BONUS;
-            }
-        }
+    private Character findOrCreateInCurrentTransaction(Long userId) {
+        return characterRepository.findByUserId(userId).orElseGet(() -> {
+            userRepository.lockById(userId)
+                    .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다"));
+            return characterRepository.findByUserId(userId).orElseGet(() -> {
+                log.info("캐릭터가 없어서 기본 캐릭터 생성: userId={}", userId);
+                return characterProvisioner.createDefaultInCurrentTransaction(userId);
+            });
+        });
+    }
 
-        return 0;
+    private CharacterDto cacheAfterCommit(CharacterDto character) {
+        characterStateCache.putAfterCommit(character);
+        return character;
     }
 
     /**
-     * 게임 완료 처리 및 경험치 지급 (하루 3번 제한)
+     * 남은 쓰다듬기 횟수 조회
      */
-    @Transactional
-    public GameCompletionResponseDto completeGame(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("유저 없음"));
-
-        // 오늘 날짜로 일일 게임 횟수 체크
-        LocalDate today = LocalDate.now();
-
-        // 오늘이 마지막 게임 날짜와 다르면 카운트 초기화
-        if (user.getLastGameDate() == null || !user.getLastGameDate().equals(today)) {
-            user.setDailyGameCount(0);
-            user.setLastGameDate(today);
-        }
-
-        // 일일 게임 제한 체크
-        if (user.getDailyGameCount() >= DAILY_GAME_LIMIT) {
-            throw new IllegalStateException("오늘 게임 완료 제한 횟수에 도달했습니다. (최대 3회)");
-        }
-
-        // 게임 횟수 증가
-        user.setDailyGameCount(user.getDailyGameCount() + 1);
-
-        // 기본 경험치 지급
-        long experienceGained = GAME_COMPLETION_EXPERIENCE;
-        String message = String.format("게임 완료! 경험치 %d를 획득했습니다.", GAME_COMPLETION_EXPERIENCE);
-
-        // 3번째 게임 완료 시 보너스 경험치
-        if (user.getDailyGameCount() == DAILY_GAME_LIMIT) {
-            experienceGained += BONUS_EXPERIENCE_3RD_GAME;
-            message = String.format("게임 완료! 경험치 %d + 보너스 %d를 획득했습니다! 오늘의 게임 완료 횟수가 모두 소진되었습니다.",
-                    GAME_COMPLETION_EXPERIENCE, BONUS_EXPERIENCE_3RD_GAME);
-        }
-
-        // User 엔티티 저장
-        userRepository.save(user);
-
-        // 캐릭터에게 경험치 지급 (레벨업 자동 처리)
-        CharacterDto updatedCharacter = addExperience(userId, experienceGained);
-
-        // 올 컴플릿 보너스 체크 (게임 3회가 완료된 후)
-        long bonusExp = checkAndApplyAllCompleteBonus(user);
-
-        if (bonusExp > 0) {
-            updatedCharacter = addExperience(userId, bonusExp);
-            message += String.format(" 🎉 모든 일일 활동을 완료하여 보너스 경험치 %d를 추가로 획득했습니다!", bonusExp);
-        }
-
-        return GameCompletionResponseDto.builder()
-                .userId(userId)
-                .experienceGained((int) (experienceGained + bonusExp))
-                .totalExperience(updatedCharacter.getExperience())
-                .currentLevel(updatedCharacter.getLevel())
-                .dailyGameCount(user.getDailyGameCount())
-                .remainingDailyGames(DAILY_GAME_LIMIT - user.getDailyGameCount())
-                .message(message)
-                .completedAt(java.time.LocalDateTime.now())
-                .build();
-    }
     public int getRemainingDailyPets(Long userId) {
-        User user = userRepository.findById(userId)
+        int count = userRepository.findTodayPetCount(userId, LocalDate.now(clock))
                 .orElseThrow(() -> new EntityNotFoundException("유저 없음"));
-
-        LocalDate today = LocalDate.now();
-
-        // 오늘이 아니면 3번 모두 가능
-        if (user.getLastPetDate() == null || !user.getLastPetDate().equals(today)) {
-            return DAILY_PET_LIMIT;
-        }
-
-        return DAILY_PET_LIMIT - user.getDailyPetCount();
+        return ActivityType.PET.getDailyLimit() - count;
     }
 
     /**
      * 남은 먹이주기 횟수 조회
      */
     public int getRemainingDailyFeeds(Long userId) {
-        User user = userRepository.findById(userId)
+        int count = userRepository.findTodayFeedCount(userId, LocalDate.now(clock))
                 .orElseThrow(() -> new EntityNotFoundException("유저 없음"));
-
-        LocalDate today = LocalDate.now();
-
-        // 오늘이 아니면 3번 모두 가능
-        if (user.getLastFeedDate() == null || !user.getLastFeedDate().equals(today)) {
-            return DAILY_FEED_LIMIT;
-        }
-
-        return DAILY_FEED_LIMIT - user.getDailyFeedCount();
+        return ActivityType.FEED.getDailyLimit() - count;
     }
 
     /**
      * 아이템 착용/해제
      */
     @Transactional
+    @RetryOnConflict
     public CharacterDto equipItem(Long userId, ShopItemType itemType, boolean equip) {
-        Character character = characterRepository.findByUserId(userId)
-                .orElseGet(() -> {
-                    // 캐릭터가 없으면 기본 캐릭터 생성
-                    log.info("아이템 착용/해제 중 캐릭터가 없어서 기본 캐릭터 생성: userId={}", userId);
-                    User user = userRepository.findById(userId)
-                            .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다"));
-
-                    Character newCharacter = Character.builder()
-                            .user(user)
-                            .characterName("알")
-                            .characterType(CharacterType.EGG)
-                            .level(1)
-                            .experience(0L)
-                            .maxExperience(100L)
-                            .build();
-
-                    return characterRepository.save(newCharacter);
-                });
+        Character character = findOrCreateInCurrentTransaction(userId);
 
         // 사용자가 해당 아이템을 소유하고 있는지 확인
-        User user = character.getUser();
-        if (getCosmeticItemCount(user, itemType) <= 0) {
+        if (userItemStore.count(userId, itemType) <= 0) {
             throw new IllegalStateException("해당 아이템을 소유하고 있지 않습니다");
         }
 
-        // 착용하려는 경우, 같은 종류의 다른 아이템들을 먼저 해제
+        // 착용 시 같은 슬롯의 다른 아이템은 자동 해제
         if (equip) {
-            unequipAllItemsOfSameType(character, itemType);
+            character.equip(itemType);
+        } else {
+            character.unequip(itemType);
         }
 
-        // 아이템 착용/해제 처리
-        setCosmeticItemEquipped(character, itemType, equip);
-
         Character savedCharacter = characterRepository.save(character);
         log.info("아이템 {}! userId={}, item={}", equip ? "착용" : "해제", userId, itemType);
 
-        return convertToDto(savedCharacter);
-    }
-
-    /**
-     * 같은 종류의 모든 아이템 해제 (하나씩만 착용 가능하도록)
-     */
-    private void unequipAllItemsOfSameType(Character character, ShopItemType newItemType) {
-        // 모든 치장품을 해제 (하나씩만 착용 가능)
-        character.setEquippedStrawberryHairpin(false);
-        character.setEquippedGongbangAhjima(false);
-        character.setEquippedCarCrown(false);
-        character.setEquippedRose(false);
-    }
-
-    /**
-     * 레벨업 처리 및 진화 체크
-     */
-    private void levelUp(Character character) {
-        // 진화 체크 (경험치 100 도달 시 EGG -> DUCK)
-        if (character.getExperience() >= 100 && character.getCharacterType() == CharacterType.EGG) {
-            character.setCharacterType(CharacterType.DUCK);
-            character.setCharacterName("토덕이");
-            log.info("캐릭터 진화! {} -> {}, 경험치: {}", CharacterType.EGG.getDisplayName(),
-                    CharacterType.DUCK.getDisplayName(), character.getExperience());
-        }
-
-        character.setLevel(character.getLevel() + 1);
-        character.setExperience(character.getExperience() - character.getMaxExperience());
-
-        // 레벨에 따른 최대 경험치 증가 (예: 레벨 * 100)
-        character.setMaxExperience((long) (character.getLevel() * 100));
-
-        log.info("레벨업! 캐릭터: {}, 새로운 레벨: {}", character.getCharacterName(), character.getLevel());
-    }
-
-    /**
-     * 치장품 아이템 착용 상태 설정
-     */
-    private void setCosmeticItemEquipped(Character character, ShopItemType itemType, boolean equipped) {
-        switch (itemType) {
-            case STRAWBERRY_HAIRPIN:
-                character.setEquippedStrawberryHairpin(equipped);
-                break;
-            case GONGBANG_AHJIMA:
-                character.setEquippedGongbangAhjima(equipped);
-                break;
-            case CAR_CROWN:
-                character.setEquippedCarCrown(equipped);
-                break;
-            case ROSE:
-                character.setEquippedRose(equipped);
-                break;
-            default:
-                throw new IllegalArgumentException("착용할 수 없는 아이템입니다");
-        }
-    }
-
-    /**
-     * 치장품 아이템 착용 여부 조회 (InventoryService에서 호출)
-     */
-    public boolean getCosmeticItemEquipped(Character character, ShopItemType itemType) {
-        switch (itemType) {
-            case STRAWBERRY_HAIRPIN:
-                return character.getEquippedStrawberryHairpin();
-            case GONGBANG_AHJIMA:
-                return character.getEquippedGongbangAhjima();
-            case CAR_CROWN:
-                return character.getEquippedCarCrown();
-            case ROSE:
-                return character.getEquippedRose();
-            default:
-                return false;
-        }
-    }
-
-    /**
-     * 사용자의 아이템 소유 개수 조회 (User 엔티티에서)
-     */
-    private int getCosmeticItemCount(User user, ShopItemType itemType) {
-        switch (itemType) {
-            case STRAWBERRY_HAIRPIN:
-                return user.getStrawberryHairpinCount();
-            case GONGBANG_AHJIMA:
-                return user.getGongbangAhjimaCount();
-            case CAR_CROWN:
-                return user.getCarCrownCount();
-            case ROSE:
-                return user.getRoseCount();
-            default:
-                return 0;
-        }
+        CharacterDto updated = cacheAfterCommit(convertToDto(savedCharacter));
+        eventPublisher.publishEvent(new CharacterUpdatedEvent(updated,
+                CharacterUpdateType.EQUIPMENT_CHANGED, 0, 0, null, null));
+        return updated;
     }
 
     /**
      * Character 엔티티를 간단한 DTO로 변환 (경험치와 캐릭터 상태만)
      */
     private CharacterDto convertToDto(Character character) {
-        return CharacterDto.builder()
-                .characterId(character.getId())
-                .userId(character.getUser().getId())
-                .characterName(character.getCharacterName())
-                .characterType(character.getCharacterType())
-                .characterDisplayName(character.getCharacterType().getDisplayName())
-                .characterEmoji(character.getCharacterType().getEmoji())
-                .level(character.getLevel())
-                .experience(character.getExperience())
-                .equippedStrawberryHairpin(character.getEquippedStrawberryHairpin())
-                .equippedGongbangAhjima(character.getEquippedGongbangAhjima())
-                .equippedCarCrown(character.getEquippedCarCrown())
-                .equippedRose(character.getEquippedRose())
-                .build();
+        return CharacterDto.from(character);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,166 @@
+package com.backend.kdt.character.service;
+
+import com.backend.kdt.character.dto.CharacterDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 캐릭터 상태 캐시 (최대 개수 제한 LRU)
+ * - 미스 시 같은 사용자의 동시 요청은 하나의 조회/생성 결과를 공유 (single-flight)
+ * - 쓰기는 커밋 후 새 상태로 교체 (write-through), 롤백되면 캐시는 커밋된 값 유지
+ * - 교체/무효화가 진행 중인 로드보다 나중이면 그 로드 결과는 저장하지 않음 (오래된 값 방지)
+ */
+@Component
+public class CharacterStateCache {
+
+    private final Map<Long, CharacterDto> entries;
+    private final Map<Long, CompletableFuture<CharacterDto>> inFlight = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public CharacterStateCache(MeterRegistry meterRegistry,
+                               @Value("${character.cache.max-entries:10000}") int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CharacterDto> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        Gauge.builder("character.cache.size", this, CharacterStateCache::size)
+                .description("캐시된 캐릭터 수")
+                .register(meterRegistry);
+        this.hitCounter = Counter.builder("character.cache.hits")
+                .description("캐시에서 응답한 캐릭터 조회 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("character.cache.misses")
+                .description("DB 조회가 필요했던 캐릭터 조회 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 로드 (같은 사용자의 동시 미스는 한 번만 로드)
+     */
+    public CharacterDto get(Long userId, Supplier<CharacterDto> loader) {
+        CharacterDto cached = lookup(userId);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        CompletableFuture<CharacterDto> load = new CompletableFuture<>();
+        CompletableFuture<CharacterDto> existing = inFlight.putIfAbsent(userId, load);
+        if (existing != null) {
+            hitCounter.increment();
+            return await(existing);
+        }
+
+        missCounter.increment();
+        try {
+            CharacterDto loaded = loader.get();
+            synchronized (entries) {
+                if (inFlight.get(userId) == load) {
+                    entries.put(userId, loaded);
+                }
+            }
+            load.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(userId, load);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 새 상태로 교체 (트랜잭션 밖이면 즉시)
+     * - 커밋 후 콜백은 커밋 순서대로 호출된다는 보장이 없으므로 누적 경험치로 선후를 판단
+     * - 캐시 값보다 오래된 상태면 무시, 경험치가 같은데 내용이 다르면(착용 변경 등) 선후를 알 수 없어 무효화
+     */
+    public void putAfterCommit(CharacterDto character) {
+        afterCommit(() -> {
+            synchronized (entries) {
+                inFlight.remove(character.getUserId());
+                CharacterDto cached = entries.get(character.getUserId());
+                if (cached == null) {
+                    entries.put(character.getUserId(), character);
+                    return;
+                }
+                int order = Long.compare(totalExperience(character), totalExperience(cached));
+                if (order > 0) {
+                    entries.put(character.getUserId(), character);
+                } else if (order == 0 && !character.equals(cached)) {
+                    entries.remove(character.getUserId());
+                }
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 무효화 (대량 UPDATE 등 DTO를 만들지 않는 변경용)
+     */
+    public void invalidateAfterCommit(Collection<Long> userIds) {
+        List<Long> targets = List.copyOf(userIds);
+        afterCommit(() -> {
+            synchronized (entries) {
+                for (Long userId : targets) {
+                    inFlight.remove(userId);
+                    entries.remove(userId);
+                }
+            }
+        });
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static long totalExperience(CharacterDto character) {
+        return ExperienceCurve.totalExperience(character.getLevel(), character.getExperience());
+    }
+
+    private CharacterDto lookup(Long userId) {
+        synchronized (entries) {
+            return entries.get(userId);
+        }
+    }
+
+    private CharacterDto await(CompletableFuture<CharacterDto> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.backend.kdt.character.service;
+
+/**
+ * 캐릭터 상태 변경 종류 (실시간 알림용)
+ */
+public enum CharacterUpdateType {
+    EXPERIENCE_GAINED,
+    LEVEL_UP,
+    EVOLVED,
+    EQUIPMENT_CHANGED;
+
+    public static CharacterUpdateType of(int levelsGained, boolean evolved) {
+        if (evolved) {
+            return EVOLVED;
+        }
+        return levelsGained > 0 ? LEVEL_UP : EXPERIENCE_GAINED;
+    }
+}
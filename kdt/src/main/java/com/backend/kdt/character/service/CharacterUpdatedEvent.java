@@ -0,0 +1,18 @@
+package com.backend.kdt.character.service;
+
+import com.backend.kdt.character.dto.CharacterDto;
+import com.backend.kdt.character.entity.ActivityType;
+
+/**
+ * 사용자에게 알릴 캐릭터 변경 (변경 후 상태 포함)
+ *
+ * @param activityType   일일 활동으로 인한 변경이면 활동 종류 (그 외 null)
+ * @param remainingDaily 해당 활동의 오늘 남은 횟수 (활동이 아니면 null)
+ */
+public record CharacterUpdatedEvent(CharacterDto character,
+                                    CharacterUpdateType type,
+                                    long experienceGained,
+                                    int levelsGained,
+                                    ActivityType activityType,
+                                    Integer remainingDaily) {
+}
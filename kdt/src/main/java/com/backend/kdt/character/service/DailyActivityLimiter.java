@@ -0,0 +1,112 @@
+package com.backend.kdt.character.service;
+
+import com.backend.kdt.auth.entity.User;
+import com.backend.kdt.auth.repository.UserRepository;
+import com.backend.kdt.character.entity.ActivityType;
+import com.backend.kdt.inventory.service.ItemCounts;
+import com.backend.kdt.inventory.service.UserItemStore;
+import com.backend.kdt.shop.entity.ShopItemType;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일일 활동 횟수 제한
+ * - 한도 확인 + 증가를 조건부 UPDATE 한 번으로 처리하므로 동시 요청에도 한도를 넘지 않음
+ * - 먹이주기 소모품은 같은 트랜잭션에서 조건부 차감 (없으면 예외 → 횟수 증가도 롤백)
+ * - User를 미리 로드하지 않으며, 실패했을 때만 원인 판별을 위해 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyActivityLimiter {
+
+    private final UserRepository userRepository;
+    private final UserItemStore userItemStore;
+
+    /**
+     * 활동 1회 차감, 먹이주기면 소비한 소모품 이름 반환 (그 외 null)
+     */
+    public String acquire(Long userId, ActivityType type, LocalDate today) {
+        int limit = type.getDailyLimit();
+        switch (type) {
+            case PET -> {
+                if (userRepository.incrementDailyPetCount(userId, today, limit) == 1) {
+                    return null;
+                }
+            }
+            case GAME -> {
+                if (userRepository.incrementDailyGameCount(userId, today, limit) == 1) {
+                    return null;
+                }
+            }
+            case FEED -> {
+                if (userRepository.incrementDailyFeedCount(userId, today, limit) == 1) {
+                    return consumeFeedItem(userId);
+                }
+            }
+        }
+        throw rejection(userId, type);
+    }
+
+    /**
+     * 먹이 소모품 1개 소비 (개수가 많은 것부터, 같으면 단감), 소비한 소모품 이름 반환
+     */
+    private String consumeFeedItem(Long userId) {
+        ItemCounts counts = userItemStore.load(userId);
+        boolean persimmonFirst = counts.get(ShopItemType.PERSIMMON) >= counts.get(ShopItemType.GREEN_TEA);
+        ShopItemType first = persimmonFirst ? ShopItemType.PERSIMMON : ShopItemType.GREEN_TEA;
+        ShopItemType second = persimmonFirst ? ShopItemType.GREEN_TEA : ShopItemType.PERSIMMON;
+
+        // 조회 후 동시 소비로 0개가 되었으면 다른 소모품 시도
+        if (counts.get(first) > 0 && userItemStore.consumeOne(userId, first)) {
+            return feedItemName(first);
+        }
+        if (counts.get(second) > 0 && userItemStore.consumeOne(userId, second)) {
+            return feedItemName(second);
+        }
+        throw new IllegalStateException("먹이를 줄 소모품이 없습니다. 영상을 시청하여 소모품을 획득해주세요.");
+    }
+
+    private String feedItemName(ShopItemType item) {
+        return item == ShopItemType.PERSIMMON ? "단감" : "녹차";
+    }
+
+    /**
+     * 올 컴플릿 보너스 지급 처리 (오늘 처음 조건을 만족한 요청 하나만 true)
+     */
+    public boolean claimAllCompleteBonus(User user, LocalDate today) {
+        // 메모리 상태로 먼저 걸러서 대부분의 요청은 추가 UPDATE 없이 종료
+        for (ActivityType type : ActivityType.values()) {
+            if (currentDailyCount(user, type, today) < type.getDailyLimit()) {
+                return false;
+            }
+        }
+        if (today.equals(user.getLastBonusDate())) {
+            return false;
+        }
+        return userRepository.claimAllCompleteBonus(user.getId(), today,
+                ActivityType.PET.getDailyLimit(), ActivityType.FEED.getDailyLimit(),
+                ActivityType.GAME.getDailyLimit()) == 1;
+    }
+
+    /**
+     * 오늘 기준 활동 횟수 (마지막 활동 날짜가 오늘이 아니면 0)
+     */
+    public int currentDailyCount(User user, ActivityType type, LocalDate today) {
+        return switch (type) {
+            case PET -> today.equals(user.getLastPetDate()) ? user.getDailyPetCount() : 0;
+            case FEED -> today.equals(user.getLastFeedDate()) ? user.getDailyFeedCount() : 0;
+            case GAME -> today.equals(user.getLastGameDate()) ? user.getDailyGameCount() : 0;
+        };
+    }
+
+    private RuntimeException rejection(Long userId, ActivityType type) {
+        // 사용자가 있는데 UPDATE가 실패했다면 한도 도달
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("유저 없음");
+        }
+        return new IllegalStateException(String.format("오늘 %s 제한 횟수에 도달했습니다. (최대 %d회)",
+                type.getDisplayName(), type.getDailyLimit()));
+    }
+}
@@ -0,0 +1,76 @@
+package com.backend.kdt.character.service;
+
+import com.backend.kdt.auth.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 자정 일일 활동 횟수 초기화 (서비스 시간대 기준, 기본 Asia/Seoul)
+ * - user_id 키셋으로 청크를 나누고 청크마다 짧은 트랜잭션의 일괄 UPDATE (users 장기 잠금 없음)
+ * - 날짜가 지난 횟수만 초기화하므로 자정 직후 활동이나 작업 지연/재실행에도 안전
+ */
+@Slf4j
+@Component
+public class DailyCounterRolloverJob {
+
+    private final UserRepository userRepository;
+    private final Clock clock;
+    private final int chunkSize;
+
+    private final Counter rowsCounter;
+    private final Timer durationTimer;
+
+    public DailyCounterRolloverJob(UserRepository userRepository,
+                                   Clock clock,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${activity.rollover.chunk-size:5000}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.rowsCounter = Counter.builder("activity.rollover.rows")
+                .description("자정 초기화로 갱신된 사용자 수")
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder("activity.rollover.duration")
+                .description("자정 초기화 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${activity.rollover.cron:0 0 0 * * *}", zone = "${app.time-zone:Asia/Seoul}")
+    public void scheduledRollover() {
+        rollover();
+    }
+
+    /**
+     * 오늘 이전 날짜의 일일 횟수를 0으로 초기화, 갱신된 행 수 반환
+     */
+    public long rollover() {
+        LocalDate today = LocalDate.now(clock);
+        long start = System.nanoTime();
+
+        long afterId = 0;
+        long updated = 0;
+        int chunks = 0;
+        Long upToId;
+        while ((upToId = userRepository.findChunkUpperBound(afterId, chunkSize)) != null) {
+            int rows = userRepository.resetDailyCounts(afterId, upToId, today);
+            rowsCounter.increment(rows);
+            updated += rows;
+            afterId = upToId;
+            chunks++;
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        durationTimer.record(elapsed);
+        log.info("일일 활동 횟수 초기화 완료: date={}, 청크={}, 갱신={}건, {}ms",
+                today, chunks, updated, elapsed.toMillis());
+        return updated;
+    }
+}
@@ -0,0 +1,59 @@
+package com.backend.kdt.character.service;
+
+import com.backend.kdt.auth.entity.User;
+import com.backend.kdt.auth.repository.UserRepository;
+import com.backend.kdt.character.entity.Character;
+import com.backend.kdt.character.entity.CharacterType;
+import com.backend.kdt.character.repository.CharacterRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 기본 캐릭터(EGG) 생성
+ * - 기본은 독립 트랜잭션으로 즉시 flush: 동시 생성으로 user_id 유니크 제약에 걸려도 호출 측 트랜잭션은 그대로 유지
+ */
+@Component
+@RequiredArgsConstructor
+public class DefaultCharacterProvisioner {
+
+    private final CharacterRepository characterRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 독립 트랜잭션에서 생성 (중복 생성 시 DataIntegrityViolationException)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void createDefault(Long userId) {
+        Character character = characterRepository.saveAndFlush(newDefaultCharacter(userId));
+        eventPublisher.publishEvent(CharacterChangedEvent.from(character));
+    }
+
+    /**
+     * 호출 측 트랜잭션에서 생성 (이미 사용자 행을 잠근 경우: 독립 트랜잭션은 FK 확인 시 그 잠금을 기다림)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Character createDefaultInCurrentTransaction(Long userId) {
+        Character character = characterRepository.save(newDefaultCharacter(userId));
+        eventPublisher.publishEvent(CharacterChangedEvent.from(character));
+        return character;
+    }
+
+    private Character newDefaultCharacter(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다"));
+
+        return Character.builder()
+                .user(user)
+                .characterName("알")
+                .characterType(CharacterType.EGG) // 기본은 EGG로 설정
+                .level(1)
+                .experience(0L)
+                .maxExperience(100L)
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.backend.kdt.character.service;
+
+import java.util.Arrays;
+
+/**
+ * 레벨 경험치 곡선 (레벨 L → L+1 에 L * 100 필요)
+ * - 레벨 L 도달 누적 경험치 = 50 * L * (L - 1), 기동 시 테이블로 미리 계산
+ * - 누적 경험치 → (레벨, 레벨 내 경험치, 최대 경험치)를 이진 탐색으로 O(log n) 계산
+ */
+public final class ExperienceCurve {
+
+    public static final int MAX_LEVEL = 10_000;
+    private static final long EXPERIENCE_PER_LEVEL = 100;
+
+    // CUMULATIVE[L] = 레벨 L 도달에 필요한 누적 경험치 (0번은 미사용)
+    private static final long[] CUMULATIVE = new long[MAX_LEVEL + 1];
+
+    static {
+        for (int level = 1; level <= MAX_LEVEL; level++) {
+            CUMULATIVE[level] = EXPERIENCE_PER_LEVEL / 2 * level * (level - 1L);
+        }
+    }
+
+    private ExperienceCurve() {
+    }
+
+    /**
+     * 현재 레벨에서 다음 레벨까지 필요한 경험치 (Character.maxExperience)
+     */
+    public static long maxExperience(int level) {
+        return level * EXPERIENCE_PER_LEVEL;
+    }
+
+    /**
+     * (레벨, 레벨 내 경험치) → 누적 경험치
+     */
+    public static long totalExperience(int level, long experience) {
+        return CUMULATIVE[Math.min(Math.max(level, 1), MAX_LEVEL)] + experience;
+    }
+
+    /**
+     * 누적 경험치 → 레벨/레벨 내 경험치/최대 경험치 (최대 레벨 초과분은 최대 레벨에 누적)
+     */
+    public static Progress resolve(long totalExperience) {
+        int index = Arrays.binarySearch(CUMULATIVE, 1, MAX_LEVEL + 1, Math.max(totalExperience, 0));
+        int level = index >= 0 ? index : -index - 2;
+        return new Progress(level, totalExperience - CUMULATIVE[level], maxExperience(level));
+    }
+
+    public record Progress(int level, long experience, long maxExperience) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.backend.kdt.character.service;
+
+import com.backend.kdt.character.dto.BulkExperienceGrantResponseDto;
+import com.backend.kdt.character.dto.CharacterDto;
+import com.backend.kdt.character.entity.Character;
+import com.backend.kdt.character.entity.CharacterType;
+import com.backend.kdt.character.repository.CharacterProgressView;
+import com.backend.kdt.character.repository.CharacterRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 이벤트용 대량 경험치 지급
+ * - 사용자 목록을 청크로 나누어 청크마다 짧은 트랜잭션으로 처리 (users/characters 장기 잠금 방지)
+ * - 레벨이 바뀌지 않는 캐릭터: UPDATE 한 번으로 일괄 증가
+ * - 레벨업하는 캐릭터만 엔티티로 로드해 경험치 곡선으로 계산 후 배치 UPDATE
+ */
+@Slf4j
+@Service
+public class ExperienceGrantService {
+
+    private final CharacterRepository characterRepository;
+    private final CharacterActivityEngine activityEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CharacterStateCache characterStateCache;
+    private final int chunkSize;
+
+    public ExperienceGrantService(CharacterRepository characterRepository,
+                                  CharacterActivityEngine activityEngine,
+                                  TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  CharacterStateCache characterStateCache,
+                                  @Value("${character.experience-grant.chunk-size:1000}") int chunkSize) {
+        this.characterRepository = characterRepository;
+        this.activityEngine = activityEngine;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.characterStateCache = characterStateCache;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 여러 사용자의 캐릭터에 같은 경험치 지급 (캐릭터가 없는 사용자는 건너뜀)
+     */
+    public BulkExperienceGrantResponseDto grantExperience(List<Long> userIds, long experience) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new IllegalArgumentException("지급 대상 사용자가 없습니다.");
+        }
+        if (experience <= 0) {
+            throw new IllegalArgumentException("지급 경험치는 0보다 커야 합니다.");
+        }
+
+        List<Long> distinctUserIds = new ArrayList<>(new LinkedHashSet<>(userIds));
+        List<Long> leveledUp = new ArrayList<>();
+        List<Long> evolved = new ArrayList<>();
+        int granted = 0;
+
+        long start = System.currentTimeMillis();
+        for (int from = 0; from < distinctUserIds.size(); from += chunkSize) {
+            List<Long> chunk = distinctUserIds.subList(from, Math.min(from + chunkSize, distinctUserIds.size()));
+            Integer chunkGranted = transactionTemplate.execute(status ->
+                    grantChunk(chunk, experience, leveledUp, evolved));
+            granted += chunkGranted == null ? 0 : chunkGranted;
+        }
+
+        log.info("대량 경험치 지급 완료: 대상={}, 지급={}, 레벨업={}, 진화={}, exp={}, {}ms",
+                distinctUserIds.size(), granted, leveledUp.size(), evolved.size(), experience,
+                System.currentTimeMillis() - start);
+
+        return BulkExperienceGrantResponseDto.builder()
+                .requestedCount(distinctUserIds.size())
+                .grantedCount(granted)
+                .experience(experience)
+                .leveledUpUserIds(leveledUp)
+                .evolvedUserIds(evolved)
+                .build();
+    }
+
+    private int grantChunk(List<Long> userIds, long experience, List<Long> leveledUp, List<Long> evolved) {
+        List<CharacterProgressView> rows = characterRepository.lockProgressByUserIds(userIds);
+        characterStateCache.invalidateAfterCommit(userIds);
+
+        List<Long> sameLevelIds = new ArrayList<>();
+        Map<Long, Long> levelUpUserIdByCharacterId = new HashMap<>();
+        for (CharacterProgressView row : rows) {
+            if (row.getExperience() + experience >= row.getMaxExperience()) {
+                levelUpUserIdByCharacterId.put(row.getCharacterId(), row.getUserId());
+            } else {
+                sameLevelIds.add(row.getCharacterId());
+                eventPublisher.publishEvent(new CharacterChangedEvent(row.getUserId(), row.getCharacterId(),
+                        row.getCharacterName(), CharacterType.valueOf(row.getCharacterType()),
+                        row.getLevel(), row.getExperience() + experience));
+            }
+        }
+
+        if (!sameLevelIds.isEmpty()) {
+            characterRepository.addExperienceByIds(sameLevelIds, experience);
+        }
+
+        // 레벨업 대상만 로드해 계산 (변경분은 커밋 시 JDBC 배치로 반영)
+        if (!levelUpUserIdByCharacterId.isEmpty()) {
+            for (Character character : characterRepository.findAllById(levelUpUserIdByCharacterId.keySet())) {
+                CharacterType typeBefore = character.getCharacterType();
+                int levelsGained = activityEngine.applyExperience(character, experience);
+                eventPublisher.publishEvent(CharacterChangedEvent.from(character));
+
+                Long userId = levelUpUserIdByCharacterId.get(character.getId());
+                boolean characterEvolved = typeBefore != character.getCharacterType();
+                leveledUp.add(userId);
+                if (characterEvolved) {
+                    evolved.add(userId);
+                }
+                // 레벨업/진화만 사용자에게 알림 (같은 레벨 유지분은 다음 조회 시 반영)
+                eventPublisher.publishEvent(new CharacterUpdatedEvent(CharacterDto.from(character),
+                        CharacterUpdateType.of(levelsGained, characterEvolved), experience, levelsGained, null, null));
+            }
+        }
+        return rows.size();
+    }
+}
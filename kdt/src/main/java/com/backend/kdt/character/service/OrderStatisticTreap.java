@@ -0,0 +1,177 @@
+package com.backend.kdt.character.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 순서 통계 트립 (서브트리 크기를 유지하는 랜덤 균형 이진 탐색 트리)
+ * - 삽입/삭제/순위/k번째 조회 O(log n), 구간 조회 O(log n + k)
+ * - 동기화하지 않음 (호출 측에서 잠금)
+ */
+final class OrderStatisticTreap<T> {
+
+    private final Comparator<T> comparator;
+    private final SplittableRandom random = new SplittableRandom();
+    private Node<T> root;
+
+    OrderStatisticTreap(Comparator<T> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * 정렬된 값들로 O(n)에 구성 (임의 우선순위의 Cartesian tree)
+     */
+    static <T> OrderStatisticTreap<T> fromSorted(List<T> sortedValues, Comparator<T> comparator) {
+        OrderStatisticTreap<T> treap = new OrderStatisticTreap<>(comparator);
+        Deque<Node<T>> rightSpine = new ArrayDeque<>();
+        for (T value : sortedValues) {
+            Node<T> node = new Node<>(value, treap.random.nextInt());
+            Node<T> lastPopped = null;
+            while (!rightSpine.isEmpty() && rightSpine.peek().priority < node.priority) {
+                lastPopped = rightSpine.pop();
+            }
+            node.left = lastPopped;
+            if (!rightSpine.isEmpty()) {
+                rightSpine.peek().right = node;
+            }
+            rightSpine.push(node);
+        }
+        treap.root = rightSpine.peekLast();
+        computeSizes(treap.root);
+        return treap;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(T value) {
+        Node<T>[] parts = split(root, value, false);
+        root = merge(merge(parts[0], new Node<>(value, random.nextInt())), parts[1]);
+    }
+
+    void remove(T value) {
+        Node<T>[] lessAndRest = split(root, value, false);
+        Node<T>[] equalAndGreater = split(lessAndRest[1], value, true);
+        root = merge(lessAndRest[0], equalAndGreater[1]);
+    }
+
+    /**
+     * 값의 0-based 위치 (없으면 -1)
+     */
+    int indexOf(T value) {
+        int index = 0;
+        Node<T> node = root;
+        while (node != null) {
+            int c = comparator.compare(value, node.value);
+            if (c == 0) {
+                return index + size(node.left);
+            }
+            if (c < 0) {
+                node = node.left;
+            } else {
+                index += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * [from, to) 위치의 값들을 순서대로 반환
+     */
+    List<T> range(int from, int to) {
+        List<T> result = new ArrayList<>(Math.max(0, to - from));
+        collect(root, 0, from, to, result);
+        return result;
+    }
+
+    private void collect(Node<T> node, int offset, int from, int to, List<T> out) {
+        if (node == null || from >= to) {
+            return;
+        }
+        int nodeIndex = offset + size(node.left);
+        if (from < nodeIndex) {
+            collect(node.left, offset, from, to, out);
+        }
+        if (nodeIndex >= from && nodeIndex < to) {
+            out.add(node.value);
+        }
+        if (to > nodeIndex + 1) {
+            collect(node.right, nodeIndex + 1, from, to, out);
+        }
+    }
+
+    /**
+     * inclusive=false: [value 미만, value 이상], inclusive=true: [value 이하, value 초과]
+     */
+    @SuppressWarnings("unchecked")
+    private Node<T>[] split(Node<T> node, T value, boolean inclusive) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        int c = comparator.compare(node.value, value);
+        if (c < 0 || (inclusive && c == 0)) {
+            Node<T>[] parts = split(node.right, value, inclusive);
+            node.right = parts[0];
+            update(node);
+            parts[0] = node;
+            return parts;
+        }
+        Node<T>[] parts = split(node.left, value, inclusive);
+        node.left = parts[1];
+        update(node);
+        parts[1] = node;
+        return parts;
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static <T> int computeSizes(Node<T> node) {
+        if (node == null) {
+            return 0;
+        }
+        node.size = 1 + computeSizes(node.left) + computeSizes(node.right);
+        return node.size;
+    }
+
+    private static <T> int size(Node<T> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <T> void update(Node<T> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    private static final class Node<T> {
+        private final T value;
+        private final int priority;
+        private Node<T> left;
+        private Node<T> right;
+        private int size = 1;
+
+        private Node(T value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+}
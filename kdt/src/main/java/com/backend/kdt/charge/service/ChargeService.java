@@ -1,11 +1,10 @@
 package com.backend.kdt.charge.service;
 
-import com.backend.kdt.auth.entity.User;
-import com.backend.kdt.auth.repository.UserRepository;
 import com.backend.kdt.charge.dto.ChargeResponseDto;
 import com.backend.kdt.charge.dto.ChargeTypeDto;
 import com.backend.kdt.charge.entity.ChargeType;
-import jakarta.persistence.EntityNotFoundException;
+import com.backend.kdt.wallet.entity.PointTransactionType;
+import com.backend.kdt.wallet.service.WalletService;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -18,23 +17,19 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ChargeService {
 
-    private final UserRepository userRepository;
+    private final WalletService walletService;
 
     @Transactional
     public ChargeResponseDto chargePoints(Long userId, ChargeType chargeType) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다"));
-
-        // 포인트 충전 (바로 지급)
-        Long newPointTotal = user.getPoint() + chargeType.getPoints();
-        user.setPoint(newPointTotal);
-        userRepository.save(user);
+        // 포인트 충전 (바로 지급, 원장 기록)
+        long newPointTotal = walletService.credit(userId, chargeType.getPoints(),
+                PointTransactionType.CHARGE, chargeType.name());
 
         return ChargeResponseDto.builder()
                 .userId(userId)
                 .chargeName(chargeType.getDisplayName())
                 .chargedPoints(chargeType.getPoints())
-                .newTotalPoints(newPointTotal.intValue())
+                .newTotalPoints((int) newPointTotal)
                 .chargedAt(LocalDateTime.now())
                 .build();
     }
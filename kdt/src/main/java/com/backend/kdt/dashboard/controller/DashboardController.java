@@ -0,0 +1,39 @@
+package com.backend.kdt.dashboard.controller;
+
+import com.backend.kdt.auth.dto.ApiResponse;
+import com.backend.kdt.dashboard.dto.DashboardDto;
+import com.backend.kdt.dashboard.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/dashboard")
+@Tag(name = "[구현완료] 대시보드 API", description = "홈 화면 통합 조회")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping
+    @Operation(summary = "홈 화면 대시보드 조회",
+            description = "캐릭터, 오늘 남은 쓰다듬기/먹이주기/게임 횟수, 시청 상태, 올 컴플릿 보너스 상태, 인벤토리 요약을 한 번에 조회합니다.")
+    public ResponseEntity<ApiResponse<DashboardDto>> getDashboard(
+            @Parameter(description = "사용자 ID") @RequestParam Long userId) {
+        try {
+            DashboardDto dashboard = dashboardService.getDashboard(userId);
+            return ResponseEntity.ok(ApiResponse.onSuccess(dashboard));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.onFailure("USER_NOT_FOUND", e.getMessage()));
+        }
+    }
+}
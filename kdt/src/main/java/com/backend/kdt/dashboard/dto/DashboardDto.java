@@ -0,0 +1,26 @@
+package com.backend.kdt.dashboard.dto;
+
+import com.backend.kdt.character.dto.CharacterDto;
+import com.backend.kdt.inventory.dto.InventorySummaryDto;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class DashboardDto {
+    private Long userId;
+    private String userName;
+    private Long point;
+    private CharacterDto character;
+
+    // 오늘 남은 일일 활동 횟수
+    private int remainingDailyPets;
+    private int remainingDailyFeeds;
+    private int remainingDailyGames;
+
+    private boolean watched;                 // 시청 완료 여부
+    private boolean allActivitiesCompleted;  // 오늘 모든 일일 활동 완료 여부
+    private boolean allCompleteBonusClaimed; // 오늘 올 컴플릿 보너스 수령 여부
+
+    private InventorySummaryDto inventory;
+}
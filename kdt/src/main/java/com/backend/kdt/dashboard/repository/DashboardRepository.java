@@ -0,0 +1,26 @@
+package com.backend.kdt.dashboard.repository;
+
+import com.backend.kdt.auth.entity.User;
+import java.util.List;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+public interface DashboardRepository extends Repository<User, Long> {
+
+    // 홈 화면에 필요한 사용자/캐릭터/보유 개수를 한 번에 조회 (엔티티 로드 없음)
+    @Query("SELECT u.id AS userId, u.userName AS userName, u.point AS point, u.watched AS watched, "
+            + "u.dailyPetCount AS dailyPetCount, u.lastPetDate AS lastPetDate, "
+            + "u.dailyFeedCount AS dailyFeedCount, u.lastFeedDate AS lastFeedDate, "
+            + "u.dailyGameCount AS dailyGameCount, u.lastGameDate AS lastGameDate, "
+            + "u.lastBonusDate AS lastBonusDate, "
+            + "c.id AS characterId, c.characterName AS characterName, c.characterType AS characterType, "
+            + "c.level AS level, c.experience AS experience, c.maxExperience AS maxExperience, "
+            + "c.equippedItems AS equippedItems, "
+            + "i.itemType AS itemType, i.count AS itemCount "
+            + "FROM User u "
+            + "LEFT JOIN Character c ON c.user.id = u.id "
+            + "LEFT JOIN UserItem i ON i.userId = u.id "
+            + "WHERE u.id = :userId")
+    List<DashboardRowView> findDashboardRows(@Param("userId") Long userId);
+}
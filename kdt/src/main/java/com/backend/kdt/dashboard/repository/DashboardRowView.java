@@ -0,0 +1,35 @@
+package com.backend.kdt.dashboard.repository;
+
+import com.backend.kdt.character.entity.CharacterType;
+import com.backend.kdt.shop.entity.ShopItemType;
+import java.time.LocalDate;
+
+/**
+ * 대시보드 조회 행 (사용자 + 캐릭터 + 보유 아이템 1종, 보유 아이템 수만큼 행이 반복됨)
+ */
+public interface DashboardRowView {
+    Long getUserId();
+    String getUserName();
+    Long getPoint();
+    Boolean getWatched();
+    Integer getDailyPetCount();
+    LocalDate getLastPetDate();
+    Integer getDailyFeedCount();
+    LocalDate getLastFeedDate();
+    Integer getDailyGameCount();
+    LocalDate getLastGameDate();
+    LocalDate getLastBonusDate();
+
+    // 캐릭터가 없으면 null
+    Long getCharacterId();
+    String getCharacterName();
+    CharacterType getCharacterType();
+    Integer getLevel();
+    Long getExperience();
+    Long getMaxExperience();
+    Integer getEquippedItems();
+
+    // 보유 아이템이 없으면 null
+    ShopItemType getItemType();
+    Integer getItemCount();
+}
@@ -0,0 +1,79 @@
+package com.backend.kdt.dashboard.service;
+
+import com.backend.kdt.character.dto.CharacterDto;
+import com.backend.kdt.character.entity.ActivityType;
+import com.backend.kdt.character.entity.Equipment;
+import com.backend.kdt.character.service.CharacterService;
+import com.backend.kdt.dashboard.dto.DashboardDto;
+import com.backend.kdt.dashboard.repository.DashboardRepository;
+import com.backend.kdt.dashboard.repository.DashboardRowView;
+import com.backend.kdt.inventory.service.InventoryService;
+import com.backend.kdt.inventory.service.ItemCounts;
+import com.backend.kdt.shop.entity.ShopItemType;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 홈 화면 대시보드
+ * - 캐릭터/남은 일일 활동/시청 상태/보너스 상태/인벤토리 요약을 projection 쿼리 한 번으로 구성
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    private final DashboardRepository dashboardRepository;
+    private final CharacterService characterService;
+    private final InventoryService inventoryService;
+    private final Clock clock;
+
+    public DashboardDto getDashboard(Long userId) {
+        List<DashboardRowView> rows = dashboardRepository.findDashboardRows(userId);
+        if (rows.isEmpty()) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다");
+        }
+        DashboardRowView first = rows.get(0);
+        LocalDate today = LocalDate.now(clock);
+
+        int[] counts = new int[ShopItemType.values().length];
+        for (DashboardRowView row : rows) {
+            if (row.getItemType() != null) {
+                counts[row.getItemType().ordinal()] = row.getItemCount();
+            }
+        }
+
+        // 캐릭터가 아직 없으면 기본 캐릭터 생성 (가입 직후 등 드문 경우만 추가 쿼리)
+        int equippedMask = first.getEquippedItems() != null ? first.getEquippedItems() : 0;
+        CharacterDto character = first.getCharacterId() != null
+                ? CharacterDto.of(first.getCharacterId(), userId, first.getCharacterName(), first.getCharacterType(),
+                        first.getLevel(), first.getExperience(), equippedMask)
+                : characterService.getCharacterByUserId(userId);
+
+        int pets = todayCount(first.getLastPetDate(), first.getDailyPetCount(), today);
+        int feeds = todayCount(first.getLastFeedDate(), first.getDailyFeedCount(), today);
+        int games = todayCount(first.getLastGameDate(), first.getDailyGameCount(), today);
+
+        return DashboardDto.builder()
+                .userId(userId)
+                .userName(first.getUserName())
+                .point(first.getPoint())
+                .character(character)
+                .remainingDailyPets(Math.max(0, ActivityType.PET.getDailyLimit() - pets))
+                .remainingDailyFeeds(Math.max(0, ActivityType.FEED.getDailyLimit() - feeds))
+                .remainingDailyGames(Math.max(0, ActivityType.GAME.getDailyLimit() - games))
+                .watched(Boolean.TRUE.equals(first.getWatched()))
+                .allActivitiesCompleted(pets >= ActivityType.PET.getDailyLimit()
+                        && feeds >= ActivityType.FEED.getDailyLimit()
+                        && games >= ActivityType.GAME.getDailyLimit())
+                .allCompleteBonusClaimed(today.equals(first.getLastBonusDate()))
+                .inventory(inventoryService.summarize(userId, ItemCounts.of(counts), Equipment.count(equippedMask)))
+                .build();
+    }
+
+    private int todayCount(LocalDate lastDate, Integer count, LocalDate today) {
+        return today.equals(lastDate) && count != null ? count : 0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.backend.kdt.inventory.entity;
+
+import com.backend.kdt.shop.entity.ShopItemType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 아이템 보유 개수 (보유한 아이템만 행이 있음)
+ * - item_type은 ShopItemType ordinal이므로 아이템은 enum 끝에만 추가 (추가 시 스키마 변경 없음)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@IdClass(UserItemId.class)
+@Table(name = "user_items")
+public class UserItem {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Enumerated(EnumType.ORDINAL)
+    @Column(name = "item_type")
+    private ShopItemType itemType;
+
+    @Column(name = "item_count", nullable = false)
+    private int count;
+}
@@ -0,0 +1,17 @@
+package com.backend.kdt.inventory.entity;
+
+import com.backend.kdt.shop.entity.ShopItemType;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class UserItemId implements Serializable {
+    private Long userId;
+    private ShopItemType itemType;
+}
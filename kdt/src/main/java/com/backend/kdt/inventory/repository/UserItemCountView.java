@@ -0,0 +1,11 @@
+package com.backend.kdt.inventory.repository;
+
+import com.backend.kdt.shop.entity.ShopItemType;
+
+/**
+ * 아이템 보유 개수 projection
+ */
+public interface UserItemCountView {
+    ShopItemType getItemType();
+    Integer getCount();
+}
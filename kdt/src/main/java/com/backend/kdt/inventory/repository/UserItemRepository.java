@@ -0,0 +1,35 @@
+package com.backend.kdt.inventory.repository;
+
+import com.backend.kdt.inventory.entity.UserItem;
+import com.backend.kdt.inventory.entity.UserItemId;
+import com.backend.kdt.shop.entity.ShopItemType;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserItemRepository extends JpaRepository<UserItem, UserItemId> {
+
+    @Query("SELECT i.itemType AS itemType, i.count AS count FROM UserItem i WHERE i.userId = :userId")
+    List<UserItemCountView> findCountsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT i.count FROM UserItem i WHERE i.userId = :userId AND i.itemType = :itemType")
+    Optional<Integer> findCount(@Param("userId") Long userId, @Param("itemType") ShopItemType itemType);
+
+    // 영향 행 수 0이면 아직 행이 없음 → UserItemStore가 직접 INSERT
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserItem i SET i.count = i.count + :amount WHERE i.userId = :userId AND i.itemType = :itemType")
+    int addCount(@Param("userId") Long userId,
+                 @Param("itemType") ShopItemType itemType,
+                 @Param("amount") int amount);
+
+    // 남은 개수가 있을 때만 1개 차감 (영향 행 수 0이면 보유하지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserItem i SET i.count = i.count - 1 "
+            + "WHERE i.userId = :userId AND i.itemType = :itemType AND i.count > 0")
+    int consumeOne(@Param("userId") Long userId, @Param("itemType") ShopItemType itemType);
+}
@@ -0,0 +1,9 @@
+package com.backend.kdt.inventory.service;
+
+import com.backend.kdt.shop.entity.ShopItemType;
+
+/**
+ * 아이템 보유 개수 변경 (delta: 지급이면 양수, 소비면 음수)
+ */
+public record InventoryChangedEvent(Long userId, ShopItemType itemType, int delta) {
+}
@@ -26,19 +26,22 @@ public class InventoryService {
 
     private final UserRepository userRepository;
     private final CharacterRepository characterRepository;
+    private final UserItemStore userItemStore;
 
     /**
-     * 사용자 전체 인벤토리 조회
+     * 사용자 전체 인벤토리 조회 (사용자/보유 개수/캐릭터 각각 한 번씩 조회)
      */
     public InventoryDto getUserInventory(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다"));
+        ItemCounts counts = userItemStore.load(userId);
+        Character character = characterRepository.findByUserId(userId).orElse(null);
 
         return InventoryDto.builder()
                 .userId(userId)
                 .userName(user.getUserName())
-                .consumption(getConsumptionItems(userId))
-                .cosmetic(getCosmeticItems(userId))
+                .consumption(buildConsumptionItems(counts))
+                .cosmetic(buildCosmeticItems(counts, character))
                 .lastUpdated(LocalDateTime.now())
                 .build();
     }
@@ -47,69 +50,18 @@ public class InventoryService {
      * 소모품만 조회 (개수가 1개 이상인 것만 표시)
      */
     public ConsumptionInventoryDto getConsumptionItems(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다"));
-
-        // 소모품 아이템들 중 실제로 소유한 것만 필터링
-        List<ConsumptionItemDto> consumptionItems = Arrays.stream(ShopItemType.values())
-                .filter(item -> item.getCategory() == ItemType.CONSUMPTION)
-                .map(item -> ConsumptionItemDto.builder()
-                        .itemName(item.getDisplayName())
-                        .emoji(item.getEmoji())
-                        .count(getConsumptionItemCount(user, item))
-                        .itemType(item.name())
-                        .build())
-                .filter(item -> item.getCount() > 0)  // 개수가 1개 이상인 것만 필터링
-                .collect(Collectors.toList());
-
-        int totalCount = consumptionItems.stream()
-                .mapToInt(ConsumptionItemDto::getCount)
-                .sum();
-
-        return ConsumptionInventoryDto.builder()
-                .categoryName("소모품")
-                .totalCount(totalCount)
-                .description("시청 완료 시 획득할 수 있는 아이템입니다.")
-                .items(consumptionItems)
-                .build();
+        requireUser(userId);
+        return buildConsumptionItems(userItemStore.load(userId));
     }
 
     /**
      * 치장품만 조회 (소유한 것만 표시)
      */
     public CosmeticInventoryDto getCosmeticItems(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다"));
-
+        requireUser(userId);
         // 캐릭터 조회 (착용 상태 확인용)
         Character character = characterRepository.findByUserId(userId).orElse(null);
-
-        // 치장품 아이템들 중 실제로 소유한 것만 필터링
-        List<CosmeticItemDto> cosmeticItems = Arrays.stream(ShopItemType.values())
-                .filter(item -> item.getCategory() == ItemType.COSMETIC)
-                .map(item -> CosmeticItemDto.builder()
-                        .itemName(item.getDisplayName())
-                        .emoji(item.getEmoji())
-                        .isOwned(getCosmeticItemCount(user, item) > 0)
-                        .isEquipped(character != null && getCosmeticItemEquipped(character, item))
-                        .itemType(item.name())
-                        .build())
-                .filter(item -> item.isOwned())  // 소유한 것만 필터링
-                .collect(Collectors.toList());
-
-        int totalOwnedCount = cosmeticItems.size();  // 필터링된 리스트의 크기가 곧 소유한 종류 수
-
-        int totalEquippedCount = (int) cosmeticItems.stream()
-                .mapToLong(item -> item.isEquipped() ? 1 : 0)
-                .sum();
-
-        return CosmeticInventoryDto.builder()
-                .categoryName("치장품")
-                .totalOwnedCount(totalOwnedCount)
-                .totalEquippedCount(totalEquippedCount)
-                .description("구매, 기부, 게임 완료 시 획득할 수 있는 아이템입니다.")
-                .items(cosmeticItems)
-                .build();
+        return buildCosmeticItems(userItemStore.load(userId), character);
     }
 
     /**
@@ -130,85 +82,89 @@ public class InventoryService {
      * 인벤토리 요약 정보
      */
     public InventorySummaryDto getInventorySummary(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다"));
+        requireUser(userId);
+        ItemCounts counts = userItemStore.load(userId);
 
         // 캐릭터 조회 (착용 상태 확인용)
         Character character = characterRepository.findByUserId(userId).orElse(null);
 
-        // 소유한 치장품 종류 수 계산
-        long ownedCosmeticCount = Arrays.stream(ShopItemType.values())
-                .filter(item -> item.getCategory() == ItemType.COSMETIC)
-                .mapToLong(item -> getCosmeticItemCount(user, item) > 0 ? 1 : 0)
-                .sum();
+        return summarize(userId, counts, character != null ? character.getEquippedCount() : 0);
+    }
 
-        int totalConsumptionCount = user.getPersimmonCount() + user.getGreenTeaCount();
+    /**
+     * 이미 읽은 보유 개수로 요약 생성 (대시보드 등 다른 조회와 묶어서 읽은 경우)
+     */
+    public InventorySummaryDto summarize(Long userId, ItemCounts counts, int equippedCosmeticCount) {
+        // 소유한 치장품 종류 수
+        int ownedCosmeticCount = counts.ownedKinds(ItemType.COSMETIC);
+        int totalConsumptionCount = counts.total(ItemType.CONSUMPTION);
 
         return InventorySummaryDto.builder()
                 .userId(userId)
                 .totalConsumptionCount(totalConsumptionCount)
-                .persimmonCount(user.getPersimmonCount())
-                .greenTeaCount(user.getGreenTeaCount())
-                .totalOwnedCosmeticCount((int) ownedCosmeticCount)
-                .totalEquippedCosmeticCount(character != null ? (int) Arrays.stream(ShopItemType.values())
-                        .filter(item -> item.getCategory() == ItemType.COSMETIC)
-                        .mapToLong(item -> getCosmeticItemEquipped(character, item) ? 1 : 0)
-                        .sum() : 0)
-                .hasStrawberryHairpin(user.getStrawberryHairpinCount() > 0)
-                .hasGongbangAhjima(user.getGongbangAhjimaCount() > 0)
-                .hasCarCrown(user.getCarCrownCount() > 0)
-                .hasRose(user.getRoseCount() > 0)
-                .totalItemCount(totalConsumptionCount + (int) ownedCosmeticCount)
+                .persimmonCount(counts.get(ShopItemType.PERSIMMON))
+                .greenTeaCount(counts.get(ShopItemType.GREEN_TEA))
+                .totalOwnedCosmeticCount(ownedCosmeticCount)
+                .totalEquippedCosmeticCount(equippedCosmeticCount)
+                .hasStrawberryHairpin(counts.owns(ShopItemType.STRAWBERRY_HAIRPIN))
+                .hasGongbangAhjima(counts.owns(ShopItemType.GONGBANG_AHJIMA))
+                .hasCarCrown(counts.owns(ShopItemType.CAR_CROWN))
+                .hasRose(counts.owns(ShopItemType.ROSE))
+                .totalItemCount(totalConsumptionCount + ownedCosmeticCount)
                 .build();
     }
 
-    /**
-     * 소모품 아이템 개수 조회
-     */
-    private int getConsumptionItemCount(User user, ShopItemType itemType) {
-        switch (itemType) {
-            case PERSIMMON:
-                return user.getPersimmonCount();
-            case GREEN_TEA:
-                return user.getGreenTeaCount();
-            default:
-                return 0;
-        }
+    private ConsumptionInventoryDto buildConsumptionItems(ItemCounts counts) {
+        // 소모품 아이템들 중 실제로 소유한 것만 필터링
+        List<ConsumptionItemDto> consumptionItems = Arrays.stream(ShopItemType.values())
+                .filter(item -> item.getCategory() == ItemType.CONSUMPTION)
+                .filter(counts::owns)  // 개수가 1개 이상인 것만 필터링
+                .map(item -> ConsumptionItemDto.builder()
+                        .itemName(item.getDisplayName())
+                        .emoji(item.getEmoji())
+                        .count(counts.get(item))
+                        .itemType(item.name())
+                        .build())
+                .collect(Collectors.toList());
+
+        return ConsumptionInventoryDto.builder()
+                .categoryName("소모품")
+                .totalCount(counts.total(ItemType.CONSUMPTION))
+                .description("시청 완료 시 획득할 수 있는 아이템입니다.")
+                .items(consumptionItems)
+                .build();
     }
 
-    /**
-     * 치장품 아이템 개수 조회 (소유 여부)
-     */
-    private int getCosmeticItemCount(User user, ShopItemType itemType) {
-        switch (itemType) {
-            case STRAWBERRY_HAIRPIN:
-                return user.getStrawberryHairpinCount();
-            case GONGBANG_AHJIMA:
-                return user.getGongbangAhjimaCount();
-            case CAR_CROWN:
-                return user.getCarCrownCount();
-            case ROSE:
-                return user.getRoseCount();
-            default:
-                return 0;
-        }
+    private CosmeticInventoryDto buildCosmeticItems(ItemCounts counts, Character character) {
+        // 치장품 아이템들 중 실제로 소유한 것만 필터링
+        List<CosmeticItemDto> cosmeticItems = Arrays.stream(ShopItemType.values())
+                .filter(item -> item.getCategory() == ItemType.COSMETIC)
+                .filter(counts::owns)  // 소유한 것만 필터링
+                .map(item -> CosmeticItemDto.builder()
+                        .itemName(item.getDisplayName())
+                        .emoji(item.getEmoji())
+                        .isOwned(true)
+                        .isEquipped(character != null && character.isEquipped(item))
+                        .itemType(item.name())
+                        .build())
+                .collect(Collectors.toList());
+
+        int totalEquippedCount = (int) cosmeticItems.stream()
+                .filter(CosmeticItemDto::isEquipped)
+                .count();
+
+        return CosmeticInventoryDto.builder()
+                .categoryName("치장품")
+                .totalOwnedCount(cosmeticItems.size())  // 필터링된 리스트의 크기가 곧 소유한 종류 수
+                .totalEquippedCount(totalEquippedCount)
+                .description("구매, 기부, 게임 완료 시 획득할 수 있는 아이템입니다.")
+                .items(cosmeticItems)
+                .build();
     }
 
-    /**
-     * 치장품 아이템 착용 여부 조회 (Character 엔티티에서 직접)
-     */
-    private boolean getCosmeticItemEquipped(Character character, ShopItemType itemType) {
-        switch (itemType) {
-            case STRAWBERRY_HAIRPIN:
-                return character.getEquippedStrawberryHairpin();
-            case GONGBANG_AHJIMA:
-                return character.getEquippedGongbangAhjima();
-            case CAR_CROWN:
-                return character.getEquippedCarCrown();
-            case ROSE:
-                return character.getEquippedRose();
-            default:
-                return false;
+    private void requireUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다");
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,74 @@
+package com.backend.kdt.inventory.service;
+
+import com.backend.kdt.inventory.repository.UserItemCountView;
+import com.backend.kdt.pay.entity.ItemType;
+import com.backend.kdt.shop.entity.ShopItemType;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 사용자 아이템 보유 개수 (ShopItemType ordinal 인덱스 배열)
+ */
+public final class ItemCounts {
+
+    private static final ShopItemType[] ITEMS = ShopItemType.values();
+
+    private final int[] counts;
+
+    private ItemCounts(int[] counts) {
+        this.counts = counts;
+    }
+
+    public static ItemCounts empty() {
+        return new ItemCounts(new int[ITEMS.length]);
+    }
+
+    /**
+     * ordinal 인덱스 배열로 생성 (배열은 복사)
+     */
+    public static ItemCounts of(int[] counts) {
+        return new ItemCounts(Arrays.copyOf(counts, ITEMS.length));
+    }
+
+    public static ItemCounts from(List<UserItemCountView> rows) {
+        int[] counts = new int[ITEMS.length];
+        for (UserItemCountView row : rows) {
+            counts[row.getItemType().ordinal()] = row.getCount();
+        }
+        return new ItemCounts(counts);
+    }
+
+    public int get(ShopItemType item) {
+        return counts[item.ordinal()];
+    }
+
+    public boolean owns(ShopItemType item) {
+        return counts[item.ordinal()] > 0;
+    }
+
+    /**
+     * 카테고리 전체 보유 개수
+     */
+    public int total(ItemType category) {
+        int total = 0;
+        for (ShopItemType item : ITEMS) {
+            if (item.getCategory() == category) {
+                total += counts[item.ordinal()];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 카테고리 중 1개 이상 보유한 종류 수
+     */
+    public int ownedKinds(ItemType category) {
+        int kinds = 0;
+        for (ShopItemType item : ITEMS) {
+            if (item.getCategory() == category && counts[item.ordinal()] > 0) {
+                kinds++;
+            }
+        }
+        return kinds;
+    }
+}
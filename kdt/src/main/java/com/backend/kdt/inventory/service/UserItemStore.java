@@ -0,0 +1,77 @@
+package com.backend.kdt.inventory.service;
+
+import com.backend.kdt.inventory.repository.UserItemRepository;
+import com.backend.kdt.shop.entity.ShopItemType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아이템 보유 개수 저장소 (user_items)
+ * - 지급/소비는 행 단위 UPDATE (users 행은 건드리지 않음)
+ * - 조회는 보유한 아이템 행만 읽어 ordinal 배열로 반환
+ * - 변경 시 InventoryChangedEvent 발행 (커밋 후 실시간 알림)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserItemStore {
+
+    // 엔티티 save는 할당 키라 merge(SELECT 후 INSERT)가 되므로 직접 insert
+    private static final String INSERT_COUNT =
+            "INSERT INTO user_items (user_id, item_type, item_count) VALUES (?, ?, ?)";
+
+    private final UserItemRepository userItemRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public ItemCounts load(Long userId) {
+        return ItemCounts.from(userItemRepository.findCountsByUserId(userId));
+    }
+
+    @Transactional(readOnly = true)
+    public int count(Long userId, ShopItemType item) {
+        return userItemRepository.findCount(userId, item).orElse(0);
+    }
+
+    /**
+     * 아이템 지급 (처음 받는 아이템이면 행 생성)
+     */
+    @Transactional
+    public void add(Long userId, ShopItemType item, int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("지급 개수는 0보다 커야 합니다.");
+        }
+        if (userItemRepository.addCount(userId, item, amount) == 0) {
+            insertOrAdd(userId, item, amount);
+        }
+        eventPublisher.publishEvent(new InventoryChangedEvent(userId, item, amount));
+    }
+
+    // 같은 아이템을 동시에 처음 지급받으면 한쪽 INSERT가 기본키 충돌 → 먼저 생긴 행에 UPDATE로 재시도
+    // JPA 쿼리 예외는 트랜잭션을 rollback-only로 만들므로 INSERT는 JdbcTemplate으로 실행 (같은 트랜잭션/커넥션)
+    private void insertOrAdd(Long userId, ShopItemType item, int amount) {
+        try {
+            jdbcTemplate.update(INSERT_COUNT, userId, item.ordinal(), amount);
+        } catch (DuplicateKeyException e) {
+            if (userItemRepository.addCount(userId, item, amount) == 0) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 아이템 1개 소비, 보유하지 않았으면 false
+     */
+    @Transactional
+    public boolean consumeOne(Long userId, ShopItemType item) {
+        if (userItemRepository.consumeOne(userId, item) == 0) {
+            return false;
+        }
+        eventPublisher.publishEvent(new InventoryChangedEvent(userId, item, -1));
+        return true;
+    }
+}
@@ -3,13 +3,14 @@ package com.backend.kdt.pay.controller;
 import com.backend.kdt.auth.dto.ApiResponse;
 import com.backend.kdt.pay.dto.DonationRequestDto;
 import com.backend.kdt.pay.dto.DonationResponseDto;
+import com.backend.kdt.pay.dto.ExchangeHistoryPageDto;
 import com.backend.kdt.pay.dto.ExchangeResponseDto;
 import com.backend.kdt.pay.dto.GameCompletionResponseDto;
-import com.backend.kdt.pay.dto.ProductDetailDto;
 import com.backend.kdt.pay.dto.ProductDto;
 import com.backend.kdt.pay.dto.ProductExchangeRequestDto;
 import com.backend.kdt.pay.dto.WatchCompletionResponseDto;
 import com.backend.kdt.pay.entity.TransactionType;
+import com.backend.kdt.pay.service.CatalogSnapshot;
 import com.backend.kdt.pay.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -50,20 +51,27 @@ public class ProductController {
         }
     }
 
+    // ETag가 If-None-Match와 같으면 본문 직렬화 없이 304 응답 (HttpEntityMethodProcessor가 처리)
     @GetMapping
-    @Operation(summary = "상품 목록 조회", description = "카테고리에 따른 상품 리스트를 조회합니다.")
+    @Operation(summary = "상품 목록 조회", description = "카테고리에 따른 상품 리스트를 조회합니다. "
+            + "응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다.")
     public ResponseEntity<ApiResponse<List<ProductDto>>> getProducts(
             @Parameter(description = "상품 카테고리") @RequestParam TransactionType transactionType) {
-        List<ProductDto> products = productService.getProductsByCategory(transactionType);
-        return ResponseEntity.ok(ApiResponse.onSuccess(products));
+        CatalogSnapshot<List<ProductDto>> catalog = productService.getCatalog(transactionType);
+        return ResponseEntity.ok()
+                .eTag(catalog.etag())
+                .body(ApiResponse.onSuccess(catalog.value()));
     }
 
     @GetMapping("/{productId}")
-    @Operation(summary = "(구매전) 단일 상품 조회", description = "상품 ID로 특정 상품 정보를 조회합니다.")
+    @Operation(summary = "(구매전) 단일 상품 조회", description = "상품 ID로 특정 상품 정보를 조회합니다. "
+            + "응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다.")
     public ResponseEntity<ApiResponse<ProductDto>> getProduct(
             @Parameter(description = "상품 ID") @PathVariable Long productId) {
-        ProductDto product = productService.getProduct(productId);
-        return ResponseEntity.ok(ApiResponse.onSuccess(product));
+        CatalogSnapshot<ProductDto> product = productService.getProductSnapshot(productId);
+        return ResponseEntity.ok()
+                .eTag(product.etag())
+                .body(ApiResponse.onSuccess(product.value()));
     }
 
     // 기부하기 + COSMETIC 아이템 지급
@@ -82,12 +90,35 @@ public class ProductController {
         }
     }
 
-    @Operation(summary = "기부 내역 조회", description = "사용자의 기부 내역을 조회합니다.")
+    @Operation(summary = "기부 내역 조회", description = "사용자의 기부 내역을 최신순으로 조회합니다. "
+            + "다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
     @GetMapping("/my/donations")
-    public ResponseEntity<ApiResponse<List<ProductDetailDto>>> getMyDonations(
-            @Parameter(description = "사용자 ID") @RequestParam Long userId) {
-        List<ProductDetailDto> donations = productService.getUserDonationHistory(userId);
-        return ResponseEntity.ok(ApiResponse.onSuccess(donations));
+    public ResponseEntity<ApiResponse<ExchangeHistoryPageDto>> getMyDonations(
+            @Parameter(description = "사용자 ID") @RequestParam Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+        return history(userId, TransactionType.DONATION, cursor, size);
+    }
+
+    @Operation(summary = "구매 내역 조회", description = "사용자의 특산물 구매 내역을 최신순으로 조회합니다. "
+            + "다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+    @GetMapping("/my/purchases")
+    public ResponseEntity<ApiResponse<ExchangeHistoryPageDto>> getMyPurchases(
+            @Parameter(description = "사용자 ID") @RequestParam Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+        return history(userId, TransactionType.PURCHASE, cursor, size);
+    }
+
+    private ResponseEntity<ApiResponse<ExchangeHistoryPageDto>> history(Long userId, TransactionType transactionType,
+                                                                       String cursor, int size) {
+        try {
+            ExchangeHistoryPageDto page = productService.getUserExchangeHistory(userId, transactionType, cursor, size);
+            return ResponseEntity.ok(ApiResponse.onSuccess(page));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.onFailure("INVALID_HISTORY_REQUEST", e.getMessage()));
+        }
     }
 
     // 영상 시청 + CONSUMPTION 아이템 지급
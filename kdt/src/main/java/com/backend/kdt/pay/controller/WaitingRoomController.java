@@ -0,0 +1,58 @@
+package com.backend.kdt.pay.controller;
+
+import com.backend.kdt.auth.dto.ApiResponse;
+import com.backend.kdt.pay.dto.WaitingTicketDto;
+import com.backend.kdt.pay.service.ProductWaitingRoom;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/products/{productId}/waiting-room")
+@RequiredArgsConstructor
+@Tag(name = "[구현완료] 구매 대기열 API", description = "한정 상품 구매 전 대기열 참여 및 순번 조회")
+public class WaitingRoomController {
+
+    private final ProductWaitingRoom productWaitingRoom;
+
+    @PostMapping
+    @Operation(summary = "대기열 참여",
+            description = "상품 구매 대기열에 참여합니다. 입장하면 일정 시간 동안 구매할 수 있으며, "
+                    + "진행 상황(입장 일련번호)은 /topic/waiting-room/{productId}로 전송되어 응답의 sequence로 순번을 계산하고, "
+                    + "입장/입장 임박 알림은 /user/queue/waiting-room으로 전송됩니다.")
+    public ResponseEntity<ApiResponse<WaitingTicketDto>> join(
+            @Parameter(description = "상품 ID") @PathVariable Long productId,
+            @Parameter(description = "사용자 ID") @RequestParam Long userId) {
+        try {
+            return ResponseEntity.ok(ApiResponse.onSuccess(productWaitingRoom.join(productId, userId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.onFailure("WAITING_ROOM_UNAVAILABLE", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.onFailure("WAITING_ROOM_FULL", e.getMessage()));
+        }
+    }
+
+    @GetMapping
+    @Operation(summary = "대기 상태 조회", description = "현재 대기 순번과 예상 대기 시간, 입장 여부를 조회합니다.")
+    public ResponseEntity<ApiResponse<WaitingTicketDto>> status(
+            @Parameter(description = "상품 ID") @PathVariable Long productId,
+            @Parameter(description = "사용자 ID") @RequestParam Long userId) {
+        try {
+            return ResponseEntity.ok(ApiResponse.onSuccess(productWaitingRoom.status(productId, userId)));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.onFailure("NOT_IN_WAITING_ROOM", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.backend.kdt.pay.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ExchangeHistoryPageDto {
+    private List<ProductDetailDto> items;
+    private String nextCursor;  // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
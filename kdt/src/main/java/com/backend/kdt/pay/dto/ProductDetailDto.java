@@ -3,6 +3,7 @@ package com.backend.kdt.pay.dto;
 import com.backend.kdt.pay.entity.Product;
 import com.backend.kdt.pay.entity.ProductExchange;
 import com.backend.kdt.pay.entity.TransactionType;
+import com.backend.kdt.pay.repository.ExchangeHistoryView;
 import java.time.LocalDateTime;
 import lombok.*;
 
@@ -36,5 +37,18 @@ public class ProductDetailDto {
                 .exchangedAt(exchange.getExchangedAt())
                 .build();
     }
-}
 
+    public static ProductDetailDto from(ExchangeHistoryView view) {
+        return ProductDetailDto.builder()
+                .exchangeId(view.getExchangeId())
+                .productId(view.getProductId())
+                .name(view.getName())
+                .imageUrl(view.getImageUrl())
+                .quantity(view.getQuantity())
+                .totalCost(view.getTotalCost())
+                .transactionType(view.getTransactionType())
+                .accepted(Boolean.TRUE.equals(view.getAccepted()))
+                .exchangedAt(view.getExchangedAt())
+                .build();
+    }
+}
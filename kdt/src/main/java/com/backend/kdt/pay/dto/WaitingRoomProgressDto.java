@@ -0,0 +1,18 @@
+package com.backend.kdt.pay.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 상품별 대기열 진행 상황 (틱마다 /topic/waiting-room/{productId}로 한 번 전송)
+ * - 클라이언트는 입장 시 받은 sequence와 admittedSequence로 순번/예상 대기 시간을 직접 계산
+ */
+@Data
+@Builder
+public class WaitingRoomProgressDto {
+    private Long productId;
+    private long admittedSequence;  // 다음에 입장할 일련번호 (이보다 작은 일련번호는 입장 완료)
+    private int waitingCount;       // 남은 대기 인원
+    private int admitsPerTick;      // 틱당 입장 인원
+    private long tickMillis;        // 틱 간격(ms)
+}
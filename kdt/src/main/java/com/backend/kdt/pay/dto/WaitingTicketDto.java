@@ -0,0 +1,18 @@
+package com.backend.kdt.pay.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class WaitingTicketDto {
+    private Long productId;
+    private Long userId;
+    private boolean admitted;           // 입장 완료 여부 (true면 구매 가능)
+    private int position;               // 대기 순번 (입장 완료면 0)
+    private long sequence;              // 내 대기 일련번호 (입장 완료면 0)
+    private long admittedSequence;      // 다음에 입장할 일련번호 (순번 = sequence - admittedSequence + 1)
+    private long estimatedWaitSeconds;  // 예상 대기 시간(초)
+    private LocalDateTime expiresAt;    // 입장권 만료 시각 (입장 완료일 때만)
+}
@@ -9,8 +9,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -20,7 +22,11 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "product_exchanges")
+@Table(name = "product_exchanges", indexes = {
+        // 사용자별 구매/기부 내역 키셋 페이지 조회 (최신순 정렬을 인덱스 순서로 처리)
+        @Index(name = "idx_product_exchanges_user_type_time",
+                columnList = "user_id, transaction_type, exchanged_at DESC, id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -29,7 +35,9 @@ import lombok.Setter;
 public class ProductExchange {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 JDBC 배치 insert를 막으므로 pooled 시퀀스 사용 (50개 단위 할당)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_exchange_seq_generator")
+    @SequenceGenerator(name = "product_exchange_seq_generator", sequenceName = "product_exchanges_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
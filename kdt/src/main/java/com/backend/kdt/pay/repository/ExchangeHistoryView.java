@@ -0,0 +1,16 @@
+package com.backend.kdt.pay.repository;
+
+import com.backend.kdt.pay.entity.TransactionType;
+import java.time.LocalDateTime;
+
+public interface ExchangeHistoryView {
+    Long getExchangeId();
+    Long getProductId();
+    String getName();
+    String getImageUrl();
+    int getQuantity();
+    int getTotalCost();
+    TransactionType getTransactionType();
+    Boolean getAccepted();
+    LocalDateTime getExchangedAt();
+}
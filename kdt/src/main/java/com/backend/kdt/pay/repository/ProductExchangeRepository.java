@@ -2,8 +2,12 @@ package com.backend.kdt.pay.repository;
 
 import com.backend.kdt.pay.entity.ProductExchange;
 import com.backend.kdt.pay.entity.TransactionType;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductExchangeRepository extends JpaRepository<ProductExchange, Long> {
     List<ProductExchange> findByUserIdOrderByExchangedAtDesc(Long userId);
@@ -11,6 +15,25 @@ public interface ProductExchangeRepository extends JpaRepository<ProductExchange
     List<ProductExchange> findByUserIdAndAcceptedFalseAndTransactionTypeOrderByExchangedAtDesc(
             Long userId, TransactionType transactionType);
 
-    List<ProductExchange> findByUserIdAndTransactionTypeOrderByExchangedAtDesc(
-            Long userId, TransactionType transactionType);
-}
\ No newline at end of file
+    // 내역 키셋 페이지 (exchangedAt, id 내림차순, 상품은 조인으로 함께 조회)
+    String HISTORY_SELECT = "SELECT e.id AS exchangeId, p.id AS productId, p.name AS name, p.imageUrl AS imageUrl, "
+            + "e.quantity AS quantity, e.totalCost AS totalCost, e.transactionType AS transactionType, "
+            + "e.accepted AS accepted, e.exchangedAt AS exchangedAt "
+            + "FROM ProductExchange e JOIN e.product p "
+            + "WHERE e.user.id = :userId AND e.transactionType = :transactionType ";
+    String HISTORY_ORDER = "ORDER BY e.exchangedAt DESC, e.id DESC";
+
+    @Query(HISTORY_SELECT + HISTORY_ORDER)
+    List<ExchangeHistoryView> findHistoryFirstPage(@Param("userId") Long userId,
+                                                   @Param("transactionType") TransactionType transactionType,
+                                                   Limit limit);
+
+    @Query(HISTORY_SELECT
+            + "AND (e.exchangedAt < :exchangedAt OR (e.exchangedAt = :exchangedAt AND e.id < :exchangeId)) "
+            + HISTORY_ORDER)
+    List<ExchangeHistoryView> findHistoryPageAfter(@Param("userId") Long userId,
+                                                   @Param("transactionType") TransactionType transactionType,
+                                                   @Param("exchangedAt") LocalDateTime exchangedAt,
+                                                   @Param("exchangeId") Long exchangeId,
+                                                   Limit limit);
+}
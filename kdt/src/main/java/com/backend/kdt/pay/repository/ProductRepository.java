@@ -3,9 +3,27 @@ package com.backend.kdt.pay.repository;
 import com.backend.kdt.pay.entity.Product;
 import com.backend.kdt.pay.entity.TransactionType;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findByTransactionType(TransactionType transactionType);
 
-}
\ No newline at end of file
+    // 재고가 충분할 때만 차감 (커밋 시점 버전 충돌 없이 UPDATE 한 번으로 확정)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity, p.version = p.version + 1 "
+            + "WHERE p.id = :productId AND p.stock >= :quantity")
+    int decreaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    @Query("SELECT p.stock FROM Product p WHERE p.id = :productId")
+    Optional<Integer> findStockById(@Param("productId") Long productId);
+
+    @Query("SELECT p.transactionType FROM Product p WHERE p.id = :productId")
+    Optional<TransactionType> findTransactionTypeById(@Param("productId") Long productId);
+
+    @Query("SELECT p.id AS productId, p.stock AS stock FROM Product p")
+    List<ProductStockView> findAllStocks();
+}
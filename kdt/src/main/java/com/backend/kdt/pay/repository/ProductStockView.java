@@ -0,0 +1,6 @@
+package com.backend.kdt.pay.repository;
+
+public interface ProductStockView {
+    Long getProductId();
+    Integer getStock();
+}
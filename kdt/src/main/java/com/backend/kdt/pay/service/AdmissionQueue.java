@@ -0,0 +1,113 @@
+package com.backend.kdt.pay.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 상품 하나의 입장 대기열 (고정 크기 링 버퍼, FIFO)
+ * - 순번은 일련번호 차이로 O(1) 계산 (순번 = 내 일련번호 - 입장한 일련번호 + 1)
+ * - 틱마다 정해진 인원만 입장, 대기열이 비어 있으면 남은 입장 한도 안에서 바로 입장
+ */
+final class AdmissionQueue {
+
+    private final long[] userIds;
+    private final Map<Long, Long> sequenceByUserId = new HashMap<>();
+    private long head = 1;  // 다음에 입장할 일련번호 (1부터, 0은 대기 중이 아님을 뜻함)
+    private long tail = 1;  // 다음에 배정할 일련번호
+    private int budget;  // 이번 틱에 남은 입장 한도
+
+    AdmissionQueue(int capacity, int admitsPerTick) {
+        this.userIds = new long[capacity];
+        this.budget = admitsPerTick;
+    }
+
+    /**
+     * 대기열이 비어 있고 이번 틱 한도가 남았으면 대기 없이 입장
+     */
+    synchronized boolean tryAdmitImmediately() {
+        if (head == tail && budget > 0) {
+            budget--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 대기열 등록 후 대기 위치 반환 (이미 대기 중이면 기존 위치, 가득 찼으면 null)
+     */
+    synchronized Spot enqueue(Long userId) {
+        Long sequence = sequenceByUserId.get(userId);
+        if (sequence != null) {
+            return new Spot(sequence, head);
+        }
+        if (tail - head == userIds.length) {
+            return null;
+        }
+        userIds[(int) (tail % userIds.length)] = userId;
+        sequenceByUserId.put(userId, tail);
+        return new Spot(tail++, head);
+    }
+
+    /**
+     * 대기 순번 (대기 중이 아니면 0)
+     */
+    synchronized int positionOf(Long userId) {
+        Spot spot = spotOf(userId);
+        return spot == null ? 0 : spot.position();
+    }
+
+    /**
+     * 대기 위치 (대기 중이 아니면 null)
+     */
+    synchronized Spot spotOf(Long userId) {
+        Long sequence = sequenceByUserId.get(userId);
+        return sequence == null ? null : new Spot(sequence, head);
+    }
+
+    /**
+     * 앞에서부터 최대 admitsPerTick명 입장, 남은 한도는 대기열이 빈 뒤 바로 입장에 사용
+     */
+    synchronized long[] admit(int admitsPerTick) {
+        int count = (int) Math.min(admitsPerTick, tail - head);
+        long[] admitted = new long[count];
+        for (int i = 0; i < count; i++) {
+            admitted[i] = userIds[(int) (head % userIds.length)];
+            sequenceByUserId.remove(admitted[i]);
+            head++;
+        }
+        budget = admitsPerTick - count;
+        return admitted;
+    }
+
+    /**
+     * 앞 순번부터 최대 limit명 (대기열 전체를 복사하지 않음)
+     */
+    synchronized long[] peek(int limit) {
+        long[] next = new long[(int) Math.min(limit, tail - head)];
+        for (int i = 0; i < next.length; i++) {
+            next[i] = userIds[(int) ((head + i) % userIds.length)];
+        }
+        return next;
+    }
+
+    /**
+     * 다음에 입장할 일련번호 (이보다 작은 일련번호는 모두 입장 완료)
+     */
+    synchronized long head() {
+        return head;
+    }
+
+    synchronized int size() {
+        return (int) (tail - head);
+    }
+
+    /**
+     * 대기 위치: 내 일련번호와 조회 시점의 입장 일련번호
+     */
+    record Spot(long sequence, long head) {
+
+        int position() {
+            return (int) (sequence - head + 1);
+        }
+    }
+}
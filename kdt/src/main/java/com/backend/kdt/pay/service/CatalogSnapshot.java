@@ -0,0 +1,11 @@
+package com.backend.kdt.pay.service;
+
+/**
+ * 카탈로그 버전이 찍힌 캐시 값 (버전은 ETag로 사용)
+ */
+public record CatalogSnapshot<T>(long version, T value) {
+
+    public String etag() {
+        return "\"" + version + "\"";
+    }
+}
@@ -0,0 +1,148 @@
+package com.backend.kdt.pay.service;
+
+import com.backend.kdt.pay.dto.ProductDto;
+import com.backend.kdt.pay.entity.TransactionType;
+import com.backend.kdt.pay.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 카탈로그 캐시 (카테고리별 목록 + 개별 상품)
+ * - 상품이 바뀌면(커밋 후 이벤트) 카탈로그 버전을 올려 목록을 무효화하고 해당 상품만 제거
+ * - 목록은 현재 버전으로 찍힌 경우만 유효, 개별 상품은 LRU로 최대 개수 제한
+ * - 로드 중에 변경이 있었으면 결과를 캐시하지 않아 오래된 값이 남지 않음
+ * - 버전은 시작 시각으로 초기화하므로 재시작 후에도 이전 ETag와 겹치지 않음
+ */
+@Slf4j
+@Component
+public class ProductCatalogCache {
+
+    private final ProductRepository productRepository;
+    private final AtomicLong version;
+    private final Map<TransactionType, CatalogSnapshot<List<ProductDto>>> lists = new EnumMap<>(TransactionType.class);
+    private final Map<Long, CatalogSnapshot<ProductDto>> products;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ProductCatalogCache(ProductRepository productRepository,
+                               Clock clock,
+                               MeterRegistry meterRegistry,
+                               @Value("${product.catalog.max-entries:1000}") int maxEntries) {
+        this.productRepository = productRepository;
+        this.version = new AtomicLong(clock.millis());
+        this.products = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CatalogSnapshot<ProductDto>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        Gauge.builder("product.catalog.size", this, ProductCatalogCache::size)
+                .description("캐시된 개별 상품 수")
+                .register(meterRegistry);
+        this.hitCounter = Counter.builder("product.catalog.hits")
+                .description("캐시에서 응답한 상품 조회 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("product.catalog.misses")
+                .description("DB 조회가 필요했던 상품 조회 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시작 시 카테고리별 목록과 개별 상품을 미리 적재 (CommandLineRunner의 상품 초기화 이후)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (TransactionType type : TransactionType.values()) {
+            CatalogSnapshot<List<ProductDto>> list = products(type);
+            synchronized (this) {
+                for (ProductDto product : list.value()) {
+                    if (version.get() == list.version()) {
+                        products.put(product.getId(), new CatalogSnapshot<>(list.version(), product));
+                    }
+                }
+            }
+        }
+        log.info("상품 카탈로그 캐시 적재 완료: {}개", size());
+    }
+
+    /**
+     * 카테고리별 상품 목록
+     */
+    public CatalogSnapshot<List<ProductDto>> products(TransactionType type) {
+        long current = version.get();
+        synchronized (this) {
+            CatalogSnapshot<List<ProductDto>> cached = lists.get(type);
+            if (cached != null && cached.version() == current) {
+                hitCounter.increment();
+                return cached;
+            }
+        }
+
+        missCounter.increment();
+        CatalogSnapshot<List<ProductDto>> loaded = new CatalogSnapshot<>(current,
+                productRepository.findByTransactionType(type).stream()
+                        .map(ProductDto::from)
+                        .toList());
+        synchronized (this) {
+            if (version.get() == current) {
+                lists.put(type, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 개별 상품
+     */
+    public CatalogSnapshot<ProductDto> product(Long productId) {
+        synchronized (this) {
+            CatalogSnapshot<ProductDto> cached = products.get(productId);
+            if (cached != null) {
+                hitCounter.increment();
+                return cached;
+            }
+        }
+
+        missCounter.increment();
+        long current = version.get();
+        CatalogSnapshot<ProductDto> loaded = new CatalogSnapshot<>(current,
+                productRepository.findById(productId)
+                        .map(ProductDto::from)
+                        .orElseThrow(() -> new EntityNotFoundException("상품 없음")));
+        synchronized (this) {
+            if (version.get() == current) {
+                products.put(productId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 상품 변경 반영 (트랜잭션 커밋 후, 트랜잭션 밖에서 발행된 경우 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        synchronized (this) {
+            version.incrementAndGet();
+            products.remove(event.productId());
+        }
+    }
+
+    public synchronized int size() {
+        return products.size();
+    }
+}
@@ -0,0 +1,7 @@
+package com.backend.kdt.pay.service;
+
+/**
+ * 상품 재고/가격 변경 (커밋 후 카탈로그 캐시 무효화)
+ */
+public record ProductChangedEvent(Long productId) {
+}
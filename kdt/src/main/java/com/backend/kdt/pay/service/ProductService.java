@@ -1,28 +1,38 @@
 package com.backend.kdt.pay.service;
 
+import com.backend.kdt.auth.config.ConflictRetryExecutor;
+import com.backend.kdt.auth.config.RetryOnConflict;
 import com.backend.kdt.auth.entity.User;
 import com.backend.kdt.auth.repository.UserRepository;
 import com.backend.kdt.character.service.CharacterService;
+import com.backend.kdt.inventory.service.UserItemStore;
 import com.backend.kdt.pay.dto.DonationResponseDto;
+import com.backend.kdt.pay.dto.ExchangeHistoryPageDto;
 import com.backend.kdt.pay.dto.ExchangeResponseDto;
 import com.backend.kdt.pay.dto.GameCompletionResponseDto;
 import com.backend.kdt.pay.dto.ProductDetailDto;
 import com.backend.kdt.pay.dto.ProductDto;
 import com.backend.kdt.pay.dto.WatchCompletionResponseDto;
+import com.backend.kdt.pay.entity.ItemType;
 import com.backend.kdt.pay.entity.Product;
 import com.backend.kdt.pay.entity.ProductExchange;
 import com.backend.kdt.pay.entity.TransactionType;
+import com.backend.kdt.pay.repository.ExchangeHistoryView;
 import com.backend.kdt.pay.repository.ProductExchangeRepository;
 import com.backend.kdt.pay.repository.ProductRepository;
+import com.backend.kdt.shop.entity.ShopItemType;
+import com.backend.kdt.wallet.entity.PointTransactionType;
+import com.backend.kdt.wallet.service.WalletService;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -33,6 +43,8 @@ public class ProductService {
     // 구매/기부 시 지급할 치장품 개수 (상수)
     private static final int PURCHASE_COSMETIC_REWARD = 1;
     private static final int DONATION_COSMETIC_REWARD = 1;
+    // 내역 조회 한 페이지 최대 개수
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
 
     // 게임 완료 시 경험치 및 제한 관련 상수
     private static final int GAME_COMPLETION_EXPERIENCE = 50;  // 기본 경험치
@@ -47,65 +59,28 @@ public class ProductService {
     private final UserRepository userRepository;
     private final ProductExchangeRepository exchangeRepository;
     private final CharacterService characterService;
+    private final WalletService walletService;
+    private final UserItemStore userItemStore;
+    private final StockReservationEngine stockReservationEngine;
+    private final ProductWaitingRoom productWaitingRoom;
+    private final TransactionTemplate transactionTemplate;
+    private final ConflictRetryExecutor conflictRetryExecutor;
+    private final ProductCatalogCache productCatalogCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 상품 교환 - PURCHASE 타입으로 자동 처리 + 딸기 헤어핀 지급
      */
-    @Transactional
     public void exchangeProduct(Long userId, Long productId, int quantity) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("유저 없음"));
-
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new EntityNotFoundException("상품 없음"));
-
-        if (product.getTransactionType() == TransactionType.DONATION) {
-            throw new IllegalArgumentException("기부 상품은 구매할 수 없습니다. 기부 API를 이용해주세요.");
-        }
-
-        int totalCost = product.getPointCost() * quantity;
-
-        if (user.getPoint() < totalCost) {
-            throw new IllegalArgumentException("포인트 부족");
-        }
-
-        if (product.getStock() < quantity) {
-            throw new IllegalArgumentException("상품 재고 부족");
-        }
-
-        // 포인트 차감 & 재고 감소
-        user.setPoint(user.getPoint() - totalCost);
-        product.setStock(product.getStock() - quantity);
-
-        // 구매 시 딸기 헤어핀 지급 (STRAWBERRY_HAIRPIN)
-        user.setStrawberryHairpinCount(user.getStrawberryHairpinCount() + PURCHASE_COSMETIC_REWARD);
-        user.setCosmeticCount(user.getCosmeticCount() + PURCHASE_COSMETIC_REWARD);
-
-        // PURCHASE 타입으로 자동 설정
-        ProductExchange exchange = ProductExchange.builder()
-                .user(user)
-                .product(product)
-                .quantity(quantity)
-                .totalCost(totalCost)
-                .transactionType(TransactionType.PURCHASE)
-                .exchangedAt(LocalDateTime.now())
-                .build();
-
-        try {
-            exchangeRepository.save(exchange);
-        } catch (OptimisticLockingFailureException e) {
-            throw new RuntimeException("상품 교환 중 충돌이 발생했습니다. 다시 시도해주세요.");
-        }
+        exchangeProductWithResponse(userId, productId, quantity);
     }
 
     /**
      * 기부하기 - DONATION 타입으로 자동 처리 + 장미 지급
      */
     @Transactional
+    @RetryOnConflict
     public void donateProduct(Long userId, Long productId, int donationAmount) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("유저 없음"));
-
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new EntityNotFoundException("상품 없음"));
 
@@ -113,16 +88,13 @@ public class ProductService {
             throw new IllegalArgumentException("일반 상품은 기부할 수 없습니다. 구매 API를 이용해주세요.");
         }
 
-        if (user.getPoint() < donationAmount) {
-            throw new IllegalArgumentException("포인트 부족");
-        }
-
-        // 포인트 차감
-        user.setPoint(user.getPoint() - donationAmount);
+        // 포인트 차감 (잔액 부족 시 IllegalArgumentException), 사용자 존재는 차감에서 확인되므로 참조만 사용
+        walletService.debit(userId, donationAmount,
+                PointTransactionType.DONATION, "product:" + productId);
+        User user = userRepository.getReferenceById(userId);
 
         // 기부 시 장미 지급 (ROSE)
-        user.setRoseCount(user.getRoseCount() + DONATION_COSMETIC_REWARD);
-        user.setCosmeticCount(user.getCosmeticCount() + DONATION_COSMETIC_REWARD);
+        userItemStore.add(userId, ShopItemType.ROSE, DONATION_COSMETIC_REWARD);
 
         // DONATION 타입으로 자동 설정
         ProductExchange exchange = ProductExchange.builder()
@@ -140,12 +112,27 @@ public class ProductService {
 
     /**
      * 상품 교환 응답 DTO 포함
+     * - 대기열 입장권이 있어야 하며, 구매가 완료되면 입장권 사용 처리
+     * - 트랜잭션 시작 전에 메모리 재고를 예약하므로 품절이면 DB 작업 없이 실패
+     * - 커밋되면 예약 확정, 예외/롤백이면 예약 반환
      */
-    @Transactional
     public ExchangeResponseDto exchangeProductWithResponse(Long userId, Long productId, int quantity) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("유저 없음"));
+        productWaitingRoom.requireTicket(productId, userId);
+        StockReservation reservation = stockReservationEngine.reserve(productId, quantity);
+        try {
+            // 락 충돌/데드락이면 트랜잭션 전체를 재시도 (재고 예약은 유지)
+            ExchangeResponseDto response = conflictRetryExecutor.execute("ProductService.exchangeProduct",
+                    () -> transactionTemplate.execute(status -> purchase(userId, productId, quantity)));
+            reservation.commit();
+            productWaitingRoom.completeTicket(productId, userId);
+            return response;
+        } catch (RuntimeException e) {
+            reservation.release();
+            throw e;
+        }
+    }
 
+    private ExchangeResponseDto purchase(Long userId, Long productId, int quantity) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new EntityNotFoundException("상품 없음"));
 
@@ -155,19 +142,20 @@ public class ProductService {
 
         int totalCost = product.getPointCost() * quantity;
 
-        if (user.getPoint() < totalCost) {
-            throw new IllegalArgumentException("포인트 부족");
-        }
-
-        if (product.getStock() < quantity) {
+        // 재고 조건부 차감, 거절되면 메모리 카운터가 어긋난 것이므로 DB 기준으로 재동기화
+        if (productRepository.decreaseStock(productId, quantity) == 0) {
+            stockReservationEngine.resync(productId);
             throw new IllegalArgumentException("상품 재고 부족");
         }
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
 
-        // 포인트 차감 & 재고 감소 & 딸기 헤어핀 지급
-        user.setPoint(user.getPoint() - totalCost);
-        product.setStock(product.getStock() - quantity);
-        user.setStrawberryHairpinCount(user.getStrawberryHairpinCount() + PURCHASE_COSMETIC_REWARD);
-        user.setCosmeticCount(user.getCosmeticCount() + PURCHASE_COSMETIC_REWARD);
+        // 포인트 차감 (잔액 부족 시 IllegalArgumentException → 재고 차감도 롤백), 사용자 존재는 차감에서 확인되므로 참조만 사용
+        long remainingPoints = walletService.debit(userId, totalCost,
+                PointTransactionType.PRODUCT_PURCHASE, "product:" + productId);
+        User user = userRepository.getReferenceById(userId);
+
+        // 딸기 헤어핀 지급
+        userItemStore.add(userId, ShopItemType.STRAWBERRY_HAIRPIN, PURCHASE_COSMETIC_REWARD);
 
         ProductExchange exchange = ProductExchange.builder()
                 .user(user)
@@ -185,9 +173,9 @@ public class ProductService {
                 .productName(product.getName())
                 .quantity(quantity)
                 .totalCost(totalCost)
-                .remainingPoints(user.getPoint())
+                .remainingPoints(remainingPoints)
                 .rewardCosmetic(PURCHASE_COSMETIC_REWARD)
-                .totalCosmeticItems(user.getCosmeticCount())
+                .totalCosmeticItems(userItemStore.load(userId).total(ItemType.COSMETIC))
                 .message(String.format("%s %d개를 구매했습니다! 딸기 헤어핀 %d개를 받았어요. 🍓",
                         product.getName(), quantity, PURCHASE_COSMETIC_REWARD))
                 .exchangedAt(LocalDateTime.now())
@@ -198,10 +186,8 @@ public class ProductService {
      * 기부 응답 DTO 포함
      */
     @Transactional
+    @RetryOnConflict
     public DonationResponseDto donateProductWithResponse(Long userId, Long productId, int donationAmount) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("유저 없음"));
-
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new EntityNotFoundException("상품 없음"));
 
@@ -209,14 +195,13 @@ public class ProductService {
             throw new IllegalArgumentException("일반 상품은 기부할 수 없습니다. 구매 API를 이용해주세요.");
         }
 
-        if (user.getPoint() < donationAmount) {
-            throw new IllegalArgumentException("포인트 부족");
-        }
+        // 포인트 차감 (잔액 부족 시 IllegalArgumentException), 사용자 존재는 차감에서 확인되므로 참조만 사용
+        long remainingPoints = walletService.debit(userId, donationAmount,
+                PointTransactionType.DONATION, "product:" + productId);
+        User user = userRepository.getReferenceById(userId);
 
-        // 포인트 차감 & 장미 지급
-        user.setPoint(user.getPoint() - donationAmount);
-        user.setRoseCount(user.getRoseCount() + DONATION_COSMETIC_REWARD);
-        user.setCosmeticCount(user.getCosmeticCount() + DONATION_COSMETIC_REWARD);
+        // 장미 지급
+        userItemStore.add(userId, ShopItemType.ROSE, DONATION_COSMETIC_REWARD);
 
         ProductExchange exchange = ProductExchange.builder()
                 .user(user)
@@ -234,9 +219,9 @@ public class ProductService {
                 .userId(userId)
                 .donationTarget(product.getName())
                 .donationAmount(donationAmount)
-                .remainingPoints(user.getPoint())
+                .remainingPoints(remainingPoints)
                 .rewardCosmetic(DONATION_COSMETIC_REWARD)
-                .totalCosmeticItems(user.getCosmeticCount())
+                .totalCosmeticItems(userItemStore.load(userId).total(ItemType.COSMETIC))
                 .message(String.format("%s에 %d 포인트를 기부했습니다! 장미 %d개를 받았어요. 🌹",
                         product.getName(), donationAmount, DONATION_COSMETIC_REWARD))
                 .donatedAt(LocalDateTime.now())
@@ -247,15 +232,21 @@ public class ProductService {
      * 카테고리별 상품 조회 (TransactionType별)
      */
     public List<ProductDto> getProductsByCategory(TransactionType transactionType) {
-        return productRepository.findByTransactionType(transactionType).stream()
-                .map(ProductDto::from)
-                .toList();
+        return getCatalog(transactionType).value();
+    }
+
+    /**
+     * 카테고리별 상품 조회 (카탈로그 버전 포함, ETag용)
+     */
+    public CatalogSnapshot<List<ProductDto>> getCatalog(TransactionType transactionType) {
+        return productCatalogCache.products(transactionType);
     }
 
     /**
      * 시청 완료 처리 및 단감 지급
      */
     @Transactional
+    @RetryOnConflict
     public WatchCompletionResponseDto completeWatchingWithResponse(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("유저 없음"));
@@ -266,14 +257,13 @@ public class ProductService {
 
         // 시청 완료 처리 및 단감 3개 지급 (PERSIMMON)
         user.setWatched(true);
-        user.setPersimmonCount(user.getPersimmonCount() + WATCH_COMPLETION_CONSUMPTION);
-        user.setConsumptionCount(user.getConsumptionCount() + WATCH_COMPLETION_CONSUMPTION);
         userRepository.save(user);
+        userItemStore.add(userId, ShopItemType.PERSIMMON, WATCH_COMPLETION_CONSUMPTION);
 
         return WatchCompletionResponseDto.builder()
                 .userId(userId)
                 .rewardItems(WATCH_COMPLETION_CONSUMPTION)
-                .totalConsumptionItems(user.getConsumptionCount())
+                .totalConsumptionItems(userItemStore.load(userId).total(ItemType.CONSUMPTION))
                 .message("시청 완료! 단감 3개가 지급되었습니다. 🍊")
                 .completedAt(LocalDateTime.now())
                 .build();
@@ -282,21 +272,51 @@ public class ProductService {
     /**
      * 개별 상품 조회
      */
-    @Cacheable(value = "product", key = "#productId")
     public ProductDto getProduct(Long productId) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new EntityNotFoundException("상품 없음"));
-        return ProductDto.from(product);
+        return getProductSnapshot(productId).value();
+    }
+
+    /**
+     * 개별 상품 조회 (카탈로그 버전 포함, ETag용)
+     */
+    public CatalogSnapshot<ProductDto> getProductSnapshot(Long productId) {
+        return productCatalogCache.product(productId);
     }
 
     /**
-     * 사용자 기부 내역 조회
+     * 사용자 구매/기부 내역 조회 (최신순 키셋 페이지)
+     * - 커서 이후 size개만 인덱스 순서대로 읽으므로 내역이 많아도 페이지 조회 비용이 일정
      */
-    public List<ProductDetailDto> getUserDonationHistory(Long userId) {
-        return exchangeRepository.findByUserIdAndTransactionTypeOrderByExchangedAtDesc(
-                        userId, TransactionType.DONATION).stream()
-                .map(ProductDetailDto::from)
-                .toList();
+    public ExchangeHistoryPageDto getUserExchangeHistory(Long userId, TransactionType transactionType,
+                                                         String cursor, int size) {
+        if (size <= 0 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_HISTORY_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        Limit limit = Limit.of(size + 1);
+        List<ExchangeHistoryView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = exchangeRepository.findHistoryFirstPage(userId, transactionType, limit);
+        } else {
+            HistoryCursor after = HistoryCursor.decode(cursor);
+            rows = exchangeRepository.findHistoryPageAfter(userId, transactionType,
+                    after.exchangedAt(), after.exchangeId(), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<ExchangeHistoryView> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ExchangeHistoryView last = page.get(page.size() - 1);
+            nextCursor = new HistoryCursor(last.getExchangedAt(), last.getExchangeId()).encode();
+        }
+
+        return ExchangeHistoryPageDto.builder()
+                .items(page.stream().map(ProductDetailDto::from).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
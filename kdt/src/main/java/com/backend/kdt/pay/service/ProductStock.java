@@ -0,0 +1,65 @@
+package com.backend.kdt.pay.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 하나의 메모리 재고 카운터
+ * - available: 예약 가능한 수량 (DB 재고 - 진행 중인 예약, 재동기화 직후 음수일 수 있음)
+ * - reserved: 예약 후 아직 커밋/해제되지 않은 수량
+ */
+final class ProductStock {
+
+    private final AtomicInteger available;
+    private final AtomicInteger reserved = new AtomicInteger();
+
+    ProductStock(int stock) {
+        this.available = new AtomicInteger(stock);
+    }
+
+    /**
+     * 수량만큼 예약 (CAS 루프, 잠금 없음), 부족하면 false
+     */
+    boolean tryReserve(int quantity) {
+        while (true) {
+            int current = available.get();
+            if (current < quantity) {
+                return false;
+            }
+            if (available.compareAndSet(current, current - quantity)) {
+                reserved.addAndGet(quantity);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * DB 차감이 커밋됨 → 예약분은 이미 available에서 빠져 있으므로 reserved만 정리
+     */
+    void commit(int quantity) {
+        reserved.addAndGet(-quantity);
+    }
+
+    /**
+     * 예약 취소 → 수량 반환
+     */
+    void release(int quantity) {
+        reserved.addAndGet(-quantity);
+        available.addAndGet(quantity);
+    }
+
+    /**
+     * DB 재고 기준으로 재설정 (진행 중인 예약분은 제외)
+     * - 0으로 자르지 않음: 예약분이 DB 재고보다 많으면 음수로 두어야 이후 release 후에도 DB 재고와 맞음
+     */
+    void resync(int stock) {
+        available.set(stock - reserved.get());
+    }
+
+    int available() {
+        return available.get();
+    }
+
+    int reserved() {
+        return reserved.get();
+    }
+}
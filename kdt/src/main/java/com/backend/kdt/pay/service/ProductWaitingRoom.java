@@ -0,0 +1,233 @@
+package com.backend.kdt.pay.service;
+
+import com.backend.kdt.pay.dto.WaitingRoomProgressDto;
+import com.backend.kdt.pay.dto.WaitingTicketDto;
+import com.backend.kdt.pay.entity.TransactionType;
+import com.backend.kdt.pay.repository.ProductRepository;
+import com.backend.kdt.push.service.UserPushService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 한정 상품 구매 대기열
+ * - 상품별 FIFO 대기열(메모리, 고정 크기)에 등록하고 틱마다 설정된 비율로 입장
+ * - 입장한 사용자에게만 일정 시간 유효한 입장권 발급
+ * - 입장권은 대기열이 활성일 때(대기자가 있거나 이번 틱 입장 한도를 다 쓴 경우)만 요구, 한산할 때는 기존처럼 바로 구매
+ * - 틱마다 상품별 진행 상황(입장 일련번호)을 /topic/waiting-room/{productId}로 한 번만 전송, 순번은 클라이언트가 계산
+ * - 개별 알림(/user/queue/waiting-room)은 입장한 사용자와 다음 틱 입장 대상에게만 (틱당 입장 인원 이하)
+ * - 동시 구매 요청이 입장 비율로 평탄화되어 DB 커넥션 풀이 포화되지 않음
+ */
+@Slf4j
+@Component
+public class ProductWaitingRoom {
+
+    private final ProductRepository productRepository;
+    private final StockReservationEngine stockReservationEngine;
+    private final UserPushService userPushService;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int capacity;
+    private final int admitsPerTick;
+    private final long tickMillis;
+    private final Duration ticketTtl;
+
+    private final Map<Long, AdmissionQueue> queues = new ConcurrentHashMap<>();
+    private final Map<TicketKey, Instant> tickets = new ConcurrentHashMap<>();
+    private final Counter admittedCounter;
+    private final Counter rejectedCounter;
+
+    public ProductWaitingRoom(ProductRepository productRepository,
+                              StockReservationEngine stockReservationEngine,
+                              UserPushService userPushService,
+                              Clock clock,
+                              MeterRegistry meterRegistry,
+                              @Value("${waiting-room.enabled:true}") boolean enabled,
+                              @Value("${waiting-room.capacity:10000}") int capacity,
+                              @Value("${waiting-room.admits-per-second:20}") int admitsPerSecond,
+                              @Value("${waiting-room.tick-millis:1000}") long tickMillis,
+                              @Value("${waiting-room.ticket-ttl-seconds:120}") long ticketTtlSeconds) {
+        this.productRepository = productRepository;
+        this.stockReservationEngine = stockReservationEngine;
+        this.userPushService = userPushService;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.admitsPerTick = (int) Math.max(1, admitsPerSecond * tickMillis / 1000);
+        this.tickMillis = tickMillis;
+        this.ticketTtl = Duration.ofSeconds(ticketTtlSeconds);
+
+        Gauge.builder("waiting-room.waiting", this, ProductWaitingRoom::waitingCount)
+                .description("구매 대기 중인 사용자 수")
+                .register(meterRegistry);
+        this.admittedCounter = Counter.builder("waiting-room.admitted")
+                .description("입장권을 받은 사용자 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("waiting-room.rejected")
+                .description("대기열이 가득 차 거절된 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기열 참여 (이미 입장권이 있거나 대기 중이면 현재 상태 반환)
+     */
+    public WaitingTicketDto join(Long productId, Long userId) {
+        AdmissionQueue queue = queueOf(productId);
+        if (hasTicket(productId, userId)) {
+            return admittedTicket(productId, userId);
+        }
+        // 품절 상품은 대기열에 들어가지 않음
+        if (stockReservationEngine.available(productId) <= 0) {
+            throw new IllegalArgumentException("상품 재고 부족");
+        }
+        if (queue.positionOf(userId) == 0 && queue.tryAdmitImmediately()) {
+            issueTicket(productId, userId);
+            return admittedTicket(productId, userId);
+        }
+
+        AdmissionQueue.Spot spot = queue.enqueue(userId);
+        if (spot == null) {
+            rejectedCounter.increment();
+            throw new IllegalStateException("대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return waitingTicket(productId, userId, spot);
+    }
+
+    /**
+     * 현재 대기 상태 조회
+     */
+    public WaitingTicketDto status(Long productId, Long userId) {
+        if (hasTicket(productId, userId)) {
+            return admittedTicket(productId, userId);
+        }
+        AdmissionQueue queue = queues.get(productId);
+        AdmissionQueue.Spot spot = queue == null ? null : queue.spotOf(userId);
+        if (spot == null) {
+            throw new IllegalStateException("대기열에 참여하지 않았거나 입장권이 만료되었습니다.");
+        }
+        return waitingTicket(productId, userId, spot);
+    }
+
+    /**
+     * 구매 전 입장 확인 (대기열이 활성인데 입장권이 없거나 만료되면 IllegalArgumentException)
+     * - 대기열을 쓴 적 없는 상품이거나 대기자가 없고 이번 틱 입장 한도가 남았으면 입장권 없이 통과 (한도 1 차감)
+     */
+    public void requireTicket(Long productId, Long userId) {
+        if (!enabled || hasTicket(productId, userId)) {
+            return;
+        }
+        AdmissionQueue queue = queues.get(productId);
+        if (queue == null || queue.tryAdmitImmediately()) {
+            return;
+        }
+        throw new IllegalArgumentException("구매 대기 중인 사용자가 많습니다. 대기열에 참여해주세요.");
+    }
+
+    /**
+     * 구매 완료 → 입장권 사용 처리 (입장 1회당 구매 1회)
+     */
+    public void completeTicket(Long productId, Long userId) {
+        tickets.remove(new TicketKey(productId, userId));
+    }
+
+    /**
+     * 틱마다 상품별로 앞 순번부터 입장시키고 진행 상황 알림
+     * - 대기자 전체에 개별 전송하지 않음: 상품별 진행 상황 1건 + 입장/다음 입장 대상 개별 알림 (틱당 O(입장 인원))
+     */
+    @Scheduled(fixedDelayString = "${waiting-room.tick-millis:1000}")
+    public void tick() {
+        Instant now = clock.instant();
+        tickets.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+
+        queues.forEach((productId, queue) -> {
+            long[] admitted = queue.admit(admitsPerTick);
+            for (long userId : admitted) {
+                issueTicket(productId, userId);
+                userPushService.sendWaitingRoomUpdate(userId, admittedTicket(productId, userId));
+            }
+            int waitingCount = queue.size();
+            if (admitted.length == 0 && waitingCount == 0) {
+                return;
+            }
+            userPushService.sendWaitingRoomProgress(WaitingRoomProgressDto.builder()
+                    .productId(productId)
+                    .admittedSequence(queue.head())
+                    .waitingCount(waitingCount)
+                    .admitsPerTick(admitsPerTick)
+                    .tickMillis(tickMillis)
+                    .build());
+            // 다음 틱에 입장할 사용자에게만 개별 알림 (사용자당 한 번)
+            for (long userId : queue.peek(admitsPerTick)) {
+                AdmissionQueue.Spot spot = queue.spotOf(userId);
+                if (spot != null) {
+                    userPushService.sendWaitingRoomUpdate(userId, waitingTicket(productId, userId, spot));
+                }
+            }
+        });
+    }
+
+    private AdmissionQueue queueOf(Long productId) {
+        AdmissionQueue queue = queues.get(productId);
+        if (queue != null) {
+            return queue;
+        }
+        // 상품당 처음 한 번만 DB에서 구매 상품인지 확인
+        TransactionType type = productRepository.findTransactionTypeById(productId)
+                .orElseThrow(() -> new EntityNotFoundException("상품 없음"));
+        if (type != TransactionType.PURCHASE) {
+            throw new IllegalArgumentException("기부 상품은 대기열이 없습니다. 기부 API를 이용해주세요.");
+        }
+        return queues.computeIfAbsent(productId, id -> new AdmissionQueue(capacity, admitsPerTick));
+    }
+
+    private void issueTicket(Long productId, Long userId) {
+        tickets.put(new TicketKey(productId, userId), clock.instant().plus(ticketTtl));
+        admittedCounter.increment();
+    }
+
+    private boolean hasTicket(Long productId, Long userId) {
+        Instant expiresAt = tickets.get(new TicketKey(productId, userId));
+        return expiresAt != null && expiresAt.isAfter(clock.instant());
+    }
+
+    private WaitingTicketDto admittedTicket(Long productId, Long userId) {
+        Instant expiresAt = tickets.get(new TicketKey(productId, userId));
+        return WaitingTicketDto.builder()
+                .productId(productId)
+                .userId(userId)
+                .admitted(true)
+                .expiresAt(expiresAt == null ? null : LocalDateTime.ofInstant(expiresAt, clock.getZone()))
+                .build();
+    }
+
+    private WaitingTicketDto waitingTicket(Long productId, Long userId, AdmissionQueue.Spot spot) {
+        int position = spot.position();
+        long ticks = (position + admitsPerTick - 1) / admitsPerTick;
+        return WaitingTicketDto.builder()
+                .productId(productId)
+                .userId(userId)
+                .position(position)
+                .sequence(spot.sequence())
+                .admittedSequence(spot.head())
+                .estimatedWaitSeconds(ticks * tickMillis / 1000)
+                .build();
+    }
+
+    private int waitingCount() {
+        return queues.values().stream().mapToInt(AdmissionQueue::size).sum();
+    }
+
+    private record TicketKey(Long productId, Long userId) {
+    }
+}
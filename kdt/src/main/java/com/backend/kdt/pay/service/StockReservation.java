@@ -0,0 +1,46 @@
+package com.backend.kdt.pay.service;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 재고 예약 한 건 (commit/release 중 먼저 호출된 것 하나만 반영)
+ */
+public final class StockReservation {
+
+    private final ProductStock stock;
+    private final Long productId;
+    private final int quantity;
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    StockReservation(ProductStock stock, Long productId, int quantity) {
+        this.stock = stock;
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * DB 재고 차감 커밋 후 호출
+     */
+    public void commit() {
+        if (completed.compareAndSet(false, true)) {
+            stock.commit(quantity);
+        }
+    }
+
+    /**
+     * 트랜잭션 실패/롤백 시 호출 (이미 커밋된 예약이면 무시)
+     */
+    public void release() {
+        if (completed.compareAndSet(false, true)) {
+            stock.release(quantity);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.backend.kdt.pay.service;
+
+import com.backend.kdt.pay.repository.ProductRepository;
+import com.backend.kdt.pay.repository.ProductStockView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 재고 예약
+ * - 상품별 메모리 카운터(products.stock으로 초기화)에서 먼저 예약하고 트랜잭션을 시작
+ * - 품절이면 DB 작업 없이 바로 실패, 최종 확정은 DB 조건부 차감(stock >= 수량)이 담당
+ * - 트랜잭션 커밋 시 commit, 실패 시 release로 예약 수량을 반환
+ * - 카운터는 인스턴스 로컬이므로 DB 차감이 거절되면 DB 재고로 재동기화
+ */
+@Slf4j
+@Component
+public class StockReservationEngine {
+
+    private final ProductRepository productRepository;
+    private final Map<Long, ProductStock> stocks = new ConcurrentHashMap<>();
+    private final Counter reservedCounter;
+    private final Counter rejectedCounter;
+
+    public StockReservationEngine(ProductRepository productRepository, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.reservedCounter = Counter.builder("product.stock.reservations")
+                .description("성공한 재고 예약 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("product.stock.rejections")
+                .description("재고 부족으로 DB 작업 없이 거절된 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시작 시 전체 상품 재고 적재 (CommandLineRunner의 상품 초기화 이후)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (ProductStockView view : productRepository.findAllStocks()) {
+            stocks.put(view.getProductId(), new ProductStock(view.getStock()));
+        }
+        log.info("상품 재고 카운터 적재 완료: {}개", stocks.size());
+    }
+
+    /**
+     * 수량만큼 재고 예약 (부족하면 IllegalArgumentException)
+     */
+    public StockReservation reserve(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("수량은 1개 이상이어야 합니다.");
+        }
+        ProductStock stock = stockOf(productId);
+        if (!stock.tryReserve(quantity)) {
+            rejectedCounter.increment();
+            throw new IllegalArgumentException("상품 재고 부족");
+        }
+        reservedCounter.increment();
+        return new StockReservation(stock, productId, quantity);
+    }
+
+    /**
+     * DB 재고로 카운터 재설정 (DB 조건부 차감이 거절되어 카운터가 어긋났을 때)
+     */
+    public void resync(Long productId) {
+        ProductStock stock = stocks.get(productId);
+        if (stock == null) {
+            return;
+        }
+        productRepository.findStockById(productId).ifPresentOrElse(
+                stock::resync,
+                () -> stocks.remove(productId));
+    }
+
+    /**
+     * 예약 가능 수량 (카운터가 없으면 DB에서 적재)
+     */
+    public int available(Long productId) {
+        return stockOf(productId).available();
+    }
+
+    private ProductStock stockOf(Long productId) {
+        ProductStock stock = stocks.get(productId);
+        if (stock != null) {
+            return stock;
+        }
+        // 시작 이후 추가된 상품은 처음 요청될 때 적재
+        int dbStock = productRepository.findStockById(productId)
+                .orElseThrow(() -> new EntityNotFoundException("상품 없음"));
+        return stocks.computeIfAbsent(productId, id -> new ProductStock(dbStock));
+    }
+}
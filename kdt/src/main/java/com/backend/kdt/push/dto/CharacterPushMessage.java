@@ -0,0 +1,20 @@
+package com.backend.kdt.push.dto;
+
+import com.backend.kdt.character.dto.CharacterDto;
+import com.backend.kdt.character.entity.ActivityType;
+import com.backend.kdt.character.service.CharacterUpdateType;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CharacterPushMessage {
+    private CharacterUpdateType type;      // EXPERIENCE_GAINED, LEVEL_UP, EVOLVED, EQUIPMENT_CHANGED
+    private CharacterDto character;        // 변경 후 캐릭터 상태
+    private long experienceGained;
+    private int levelsGained;
+    private ActivityType activityType;     // 일일 활동이면 활동 종류
+    private Integer remainingDaily;        // 해당 활동의 오늘 남은 횟수
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,16 @@
+package com.backend.kdt.push.dto;
+
+import com.backend.kdt.shop.entity.ShopItemType;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class InventoryPushMessage {
+    private Long userId;
+    private ShopItemType itemType;
+    private int delta;        // 변경량 (지급 양수, 소비 음수)
+    private int count;        // 변경 후 보유 개수
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,121 @@
+package com.backend.kdt.push.service;
+
+import com.backend.kdt.character.service.CharacterUpdatedEvent;
+import com.backend.kdt.inventory.service.InventoryChangedEvent;
+import com.backend.kdt.inventory.service.UserItemStore;
+import com.backend.kdt.pay.dto.WaitingRoomProgressDto;
+import com.backend.kdt.pay.dto.WaitingTicketDto;
+import com.backend.kdt.push.dto.CharacterPushMessage;
+import com.backend.kdt.push.dto.InventoryPushMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 캐릭터/인벤토리 변경, 구매 대기열 실시간 알림 (STOMP /user/queue/..., 대기열 진행 상황은 /topic/waiting-room/{productId})
+ * - 커밋된 변경만 전송 (롤백된 변경은 알리지 않음)
+ * - 사용자 이름은 userId 문자열 (StompPrincipal), 접속 중이 아니면 아무 작업도 하지 않음
+ */
+@Slf4j
+@Service
+public class UserPushService {
+
+    public static final String CHARACTER_QUEUE = "/queue/character";
+    public static final String INVENTORY_QUEUE = "/queue/inventory";
+    public static final String WAITING_ROOM_QUEUE = "/queue/waiting-room";
+    public static final String WAITING_ROOM_TOPIC = "/topic/waiting-room/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+    private final UserItemStore userItemStore;
+    private final Clock clock;
+    private final Counter sentCounter;
+
+    public UserPushService(SimpMessagingTemplate messagingTemplate,
+                           SimpUserRegistry userRegistry,
+                           UserItemStore userItemStore,
+                           Clock clock,
+                           MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.userRegistry = userRegistry;
+        this.userItemStore = userItemStore;
+        this.clock = clock;
+        this.sentCounter = Counter.builder("push.user.sent")
+                .description("전송한 사용자 알림 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCharacterUpdated(CharacterUpdatedEvent event) {
+        Long userId = event.character().getUserId();
+        if (!isConnected(userId)) {
+            return;
+        }
+        send(userId, CHARACTER_QUEUE, CharacterPushMessage.builder()
+                .type(event.type())
+                .character(event.character())
+                .experienceGained(event.experienceGained())
+                .levelsGained(event.levelsGained())
+                .activityType(event.activityType())
+                .remainingDaily(event.remainingDaily())
+                .sentAt(LocalDateTime.now(clock))
+                .build());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        if (!isConnected(event.userId())) {
+            return;
+        }
+        // 커밋 후 개수를 읽어 동시 변경이 있어도 최신 값 전송
+        send(event.userId(), INVENTORY_QUEUE, InventoryPushMessage.builder()
+                .userId(event.userId())
+                .itemType(event.itemType())
+                .delta(event.delta())
+                .count(userItemStore.count(event.userId(), event.itemType()))
+                .sentAt(LocalDateTime.now(clock))
+                .build());
+    }
+
+    /**
+     * 구매 대기열 순번/입장 알림 (트랜잭션과 무관하게 즉시 전송)
+     */
+    public void sendWaitingRoomUpdate(Long userId, WaitingTicketDto ticket) {
+        if (!isConnected(userId)) {
+            return;
+        }
+        send(userId, WAITING_ROOM_QUEUE, ticket);
+    }
+
+    /**
+     * 상품별 대기열 진행 상황 (구독자 전체에 한 번 전송, 대기 인원과 무관하게 틱당 1건)
+     */
+    public void sendWaitingRoomProgress(WaitingRoomProgressDto progress) {
+        try {
+            messagingTemplate.convertAndSend(WAITING_ROOM_TOPIC + progress.getProductId(), progress);
+            sentCounter.increment();
+        } catch (RuntimeException e) {
+            log.warn("대기열 진행 알림 전송 실패: productId={}", progress.getProductId(), e);
+        }
+    }
+
+    private boolean isConnected(Long userId) {
+        return userRegistry.getUser(String.valueOf(userId)) != null;
+    }
+
+    private void send(Long userId, String destination, Object payload) {
+        try {
+            messagingTemplate.convertAndSendToUser(String.valueOf(userId), destination, payload);
+            sentCounter.increment();
+        } catch (RuntimeException e) {
+            // 알림 실패는 이미 커밋된 요청 결과에 영향을 주지 않음
+            log.warn("사용자 알림 전송 실패: userId={}, destination={}", userId, destination, e);
+        }
+    }
+}
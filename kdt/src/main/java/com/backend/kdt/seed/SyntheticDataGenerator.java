@@ -0,0 +1,256 @@
+package com.backend.kdt.seed;
+
+import com.backend.kdt.pay.entity.ItemType;
+import com.backend.kdt.shop.entity.ShopItemType;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 벤치마크용 대용량 합성 데이터 생성기 (seed 프로필에서만 동작)
+ * - 사용자 + 캐릭터 + 보유 아이템 + 구매/기부 이력을 청크 단위로 병렬 생성
+ * - 청크마다 (시드, 청크 번호)로 난수를 분리하므로 스레드 수와 무관하게 같은 데이터가 재현됨
+ * - 비밀번호는 소수의 해시를 미리 계산해 재사용 (seed_{번호} / seed-pw-{번호 % 풀 크기})
+ * - JPA를 거치지 않고 JDBC 배치 insert로 적재, 쓰기 전에 시퀀스에서 ID 구간을 먼저 확보
+ * - 기동 완료 직후, 사용자명 인덱스 적재보다 먼저 실행
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class SyntheticDataGenerator {
+
+    private static final String USER_NAME_PREFIX = "seed_";
+    private static final String PASSWORD_PREFIX = "seed-pw-";
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50; // 엔티티의 @SequenceGenerator allocationSize와 동일
+    private static final int MAX_LEVEL = 30;
+
+    private static final String INSERT_USER = """
+            INSERT INTO users (user_id, user_name, password, token_version, gender, age, point, watched,
+                daily_game_count, daily_pet_count, daily_feed_count)
+            VALUES (?, ?, ?, 0, ?, ?, ?, ?, 0, 0, 0)
+            """;
+
+    private static final String INSERT_USER_ITEM = """
+            INSERT INTO user_items (user_id, item_type, item_count)
+            VALUES (?, ?, ?)
+            """;
+
+    private static final String INSERT_CHARACTER = """
+            INSERT INTO characters (character_id, user_id, character_name, character_type,
+                level, experience, max_experience, equipped_items)
+            VALUES (?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    private static final String INSERT_EXCHANGE = """
+            INSERT INTO product_exchanges (id, user_id, product_id, quantity, total_cost,
+                transaction_type, exchanged_at, accepted)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String[] GENDERS = {"MALE", "FEMALE"};
+    private static final String[] AGES = {"TEENS_20S", "THIRTIES_FOURTIES", "FIFTY_PLUS"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    private final int userCount;
+    private final int chunkSize;
+    private final int threads;
+    private final long randomSeed;
+    private final int passwordPoolSize;
+    private final int maxExchangesPerUser;
+    private final LocalDate anchorDate;
+    private final int historyDays;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  PasswordEncoder passwordEncoder,
+                                  @Value("${seed.users:1000000}") int userCount,
+                                  @Value("${seed.chunk-size:10000}") int chunkSize,
+                                  @Value("${seed.threads:4}") int threads,
+                                  @Value("${seed.random-seed:20250101}") long randomSeed,
+                                  @Value("${seed.password-pool-size:8}") int passwordPoolSize,
+                                  @Value("${seed.max-exchanges-per-user:6}") int maxExchangesPerUser,
+                                  @Value("${seed.anchor-date:2025-01-01}") String anchorDate,
+                                  @Value("${seed.history-days:365}") int historyDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.userCount = userCount;
+        this.chunkSize = chunkSize;
+        this.threads = threads;
+        this.randomSeed = randomSeed;
+        this.passwordPoolSize = passwordPoolSize;
+        this.maxExchangesPerUser = maxExchangesPerUser;
+        this.anchorDate = LocalDate.parse(anchorDate);
+        this.historyDays = historyDays;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void generate() {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE user_name = ?", Integer.class, userName(0));
+        if (existing != null && existing > 0) {
+            log.info("합성 데이터가 이미 존재하여 생성을 건너뜁니다.");
+            return;
+        }
+
+        List<ProductRow> products = jdbcTemplate.query(
+                "SELECT id, transaction_type, point_cost FROM products ORDER BY id",
+                (rs, rowNum) -> new ProductRow(rs.getLong(1), rs.getString(2), rs.getInt(3)));
+        if (products.isEmpty()) {
+            throw new IllegalStateException("상품 데이터가 없어 교환 이력을 생성할 수 없습니다.");
+        }
+
+        long start = System.currentTimeMillis();
+        String[] passwordHashes = precomputePasswordHashes();
+
+        // 이미 트래픽을 받는 중이므로 쓰기 전에 ID 구간을 확보 (동시에 발급되는 pooled 블록과 겹치지 않음)
+        int chunkCount = (userCount + chunkSize - 1) / chunkSize;
+        long exchangeIdStride = (long) maxExchangesPerUser * chunkSize;
+        long userIdBase = reserveIds("users_seq", userCount);
+        long characterIdBase = reserveIds("characters_seq", userCount);
+        long exchangeIdBase = reserveIds("product_exchanges_seq", chunkCount * exchangeIdStride);
+
+        AtomicLong exchangeRows = new AtomicLong();
+        AtomicInteger threadSequence = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "seed-writer-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(chunkCount);
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                int chunkIndex = chunk;
+                futures.add(executor.submit(() -> exchangeRows.addAndGet(writeChunk(chunkIndex, passwordHashes,
+                        products, userIdBase, characterIdBase, exchangeIdBase + chunkIndex * exchangeIdStride))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("합성 데이터 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("합성 데이터 생성 실패", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("합성 데이터 생성 완료: 사용자/캐릭터 {}건, 교환 이력 {}건, {}ms (seed={})",
+                userCount, exchangeRows.get(), elapsed, randomSeed);
+    }
+
+    private long writeChunk(int chunkIndex, String[] passwordHashes, List<ProductRow> products,
+                            long userIdBase, long characterIdBase, long exchangeIdBase) {
+        SplittableRandom random = new SplittableRandom(randomSeed * 31 + chunkIndex);
+        int from = chunkIndex * chunkSize;
+        int to = Math.min(from + chunkSize, userCount);
+
+        List<Object[]> users = new ArrayList<>(to - from);
+        List<Object[]> characters = new ArrayList<>(to - from);
+        List<Object[]> userItems = new ArrayList<>((to - from) * 4);
+        List<Object[]> exchanges = new ArrayList<>((to - from) * maxExchangesPerUser / 2);
+        long exchangeId = exchangeIdBase;
+
+        for (int i = from; i < to; i++) {
+            long userId = userIdBase + i;
+            users.add(new Object[]{
+                    userId, userName(i), passwordHashes[i % passwordHashes.length],
+                    GENDERS[random.nextInt(GENDERS.length)], AGES[random.nextInt(AGES.length)],
+                    (long) random.nextInt(100_000), random.nextBoolean()});
+            // 보유한 아이템만 행 생성 (소모품 0~9개, 치장품 0~1개)
+            for (ShopItemType item : ShopItemType.values()) {
+                int count = random.nextInt(item.getCategory() == ItemType.CONSUMPTION ? 10 : 2);
+                if (count > 0) {
+                    userItems.add(new Object[]{userId, item.ordinal(), count});
+                }
+            }
+
+            int level = 1 + random.nextInt(MAX_LEVEL);
+            long maxExperience = level * 100L;
+            characters.add(new Object[]{
+                    characterIdBase + i, userId, "캐릭터" + i, level == 1 ? "EGG" : "DUCK",
+                    level, (long) random.nextInt((int) maxExperience), maxExperience});
+
+            int exchangeCount = random.nextInt(maxExchangesPerUser + 1);
+            for (int e = 0; e < exchangeCount; e++) {
+                ProductRow product = products.get(random.nextInt(products.size()));
+                boolean donation = "DONATION".equals(product.transactionType());
+                int quantity = donation ? 1 : 1 + random.nextInt(3);
+                int totalCost = donation ? 1000 * (1 + random.nextInt(50)) : product.pointCost() * quantity;
+                LocalDateTime exchangedAt = anchorDate.minusDays(random.nextInt(historyDays))
+                        .atStartOfDay().plusSeconds(random.nextInt(86_400));
+                exchanges.add(new Object[]{
+                        exchangeId++, userId, product.id(), quantity, totalCost,
+                        product.transactionType(), Timestamp.valueOf(exchangedAt),
+                        donation || random.nextInt(4) != 0});
+            }
+        }
+
+        // 청크 하나를 한 트랜잭션으로 커밋 (FK 순서: users → user_items/characters → product_exchanges)
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_USER, users);
+            jdbcTemplate.batchUpdate(INSERT_USER_ITEM, userItems);
+            jdbcTemplate.batchUpdate(INSERT_CHARACTER, characters);
+            jdbcTemplate.batchUpdate(INSERT_EXCHANGE, exchanges);
+        });
+        return exchanges.size();
+    }
+
+    private String[] precomputePasswordHashes() {
+        return IntStream.range(0, passwordPoolSize)
+                .parallel()
+                .mapToObj(i -> passwordEncoder.encode(PASSWORD_PREFIX + i))
+                .toArray(String[]::new);
+    }
+
+    /**
+     * 시퀀스에서 count개 ID 구간 확보, 구간의 첫 ID 반환
+     * - 증가폭을 구간 크기로 바꾼 뒤 한 번 발급받으면 (값 - 크기, 값]은 다른 발급 값의 pooled 블록과 겹치지 않음
+     *   (pooled 최적화기는 받은 값 v에 대해 (v - allocationSize, v]만 사용)
+     * - 그 사이 다른 요청이 큰 증가폭으로 값을 받아도 자기 블록만 쓰므로 안전
+     */
+    private long reserveIds(String sequenceName, long count) {
+        long size = Math.max(count, SEQUENCE_ALLOCATION_SIZE);
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequenceName + " INCREMENT BY " + size);
+        try {
+            Long last = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequenceName, Long.class);
+            return last - size + 1;
+        } finally {
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequenceName + " INCREMENT BY " + SEQUENCE_ALLOCATION_SIZE);
+        }
+    }
+
+    private static String userName(int index) {
+        return USER_NAME_PREFIX + index;
+    }
+
+    private record ProductRow(Long id, String transactionType, int pointCost) {
+    }
+}
@@ -1,12 +1,12 @@
 package com.backend.kdt.shop.service;
 
-import com.backend.kdt.auth.entity.User;
-import com.backend.kdt.auth.repository.UserRepository;
+import com.backend.kdt.inventory.service.UserItemStore;
 import com.backend.kdt.pay.entity.ItemType;
 import com.backend.kdt.shop.dto.ItemPurchaseResponseDto;
 import com.backend.kdt.shop.dto.ItemTypeDto;
 import com.backend.kdt.shop.entity.ShopItemType;
-import jakarta.persistence.EntityNotFoundException;
+import com.backend.kdt.wallet.entity.PointTransactionType;
+import com.backend.kdt.wallet.service.WalletService;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -19,50 +19,23 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ItemService {
 
-    private final UserRepository userRepository;
+    private final WalletService walletService;
+    private final UserItemStore userItemStore;
 
     /**
      * 아이템 구매 (수량 고정 1개)
      */
     @Transactional
     public ItemPurchaseResponseDto purchaseItem(Long userId, ShopItemType itemType) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다"));
-
         int itemPrice = itemType.getPrice();
         int quantity = 1; // 무조건 1개 고정
 
-        // 포인트 부족 체크
-        if (user.getPoint() < itemPrice) {
-            throw new IllegalArgumentException("포인트가 부족합니다. 필요 포인트: " + itemPrice);
-        }
-
-        // 포인트 차감
-        user.setPoint(user.getPoint() - itemPrice);
-
-        // 아이템 지급 (각 아이템별로 분기)
-        switch (itemType) {
-            case PERSIMMON:
-                user.setPersimmonCount(user.getPersimmonCount() + 1);
-                break;
-            case GREEN_TEA:
-                user.setGreenTeaCount(user.getGreenTeaCount() + 1);
-                break;
-            case STRAWBERRY_HAIRPIN:
-                user.setStrawberryHairpinCount(user.getStrawberryHairpinCount() + 1);
-                break;
-            case GONGBANG_AHJIMA:
-                user.setGongbangAhjimaCount(user.getGongbangAhjimaCount() + 1);
-                break;
-            case CAR_CROWN:
-                user.setCarCrownCount(user.getCarCrownCount() + 1);
-                break;
-            case ROSE:
-                user.setRoseCount(user.getRoseCount() + 1);
-                break;
-        }
+        // 포인트 차감 (잔액 부족 시 IllegalArgumentException)
+        long remainingPoints = walletService.debit(userId, itemPrice,
+                PointTransactionType.ITEM_PURCHASE, itemType.name());
 
-        userRepository.save(user);
+        // 아이템 지급 (user_items 행 하나만 갱신)
+        userItemStore.add(userId, itemType, quantity);
 
         return ItemPurchaseResponseDto.builder()
                 .userId(userId)
@@ -71,7 +44,7 @@ public class ItemService {
                 .itemPrice(itemPrice)
                 .quantity(quantity)
                 .totalCost(itemPrice)
-                .remainingPoints(user.getPoint().intValue())
+                .remainingPoints((int) remainingPoints)
                 .message(String.format("%s %s 1개를 구매했습니다!",
                         itemType.getEmoji(), itemType.getDisplayName()))
                 .purchasedAt(LocalDateTime.now())
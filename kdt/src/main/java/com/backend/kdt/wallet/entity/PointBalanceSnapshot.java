@@ -0,0 +1,38 @@
+package com.backend.kdt.wallet.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 사용자별 원장 잔액 스냅샷 (coveredUntil 시각까지 생성된 원장 합계)
+ * - 원장 잔액 = balance + (coveredUntil 이후 생성된 원장 합계)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "point_balance_snapshots")
+public class PointBalanceSnapshot {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "balance", nullable = false)
+    private Long balance;
+
+    @Column(name = "covered_until", nullable = false)
+    private LocalDateTime coveredUntil;
+
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+}
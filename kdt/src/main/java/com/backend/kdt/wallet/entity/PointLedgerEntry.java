@@ -0,0 +1,56 @@
+package com.backend.kdt.wallet.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 원장 (추가 전용, 수정/삭제 없음)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "point_ledger", indexes = {
+        @Index(name = "idx_point_ledger_user", columnList = "user_id, created_at"),
+        @Index(name = "idx_point_ledger_created", columnList = "created_at")
+})
+public class PointLedgerEntry {
+    @Id
+    // IDENTITY는 JDBC 배치 insert를 막으므로 pooled 시퀀스 사용 (50개 단위 할당)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_ledger_seq_generator")
+    @SequenceGenerator(name = "point_ledger_seq_generator", sequenceName = "point_ledger_seq", allocationSize = 50)
+    @Column(name = "ledger_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false, length = 30)
+    private PointTransactionType transactionType;
+
+    // 증감액 (충전 +, 차감 -)
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    // 거래 대상 (충전 타입, 아이템, 상품 ID 등)
+    @Column(name = "reference", length = 100)
+    private String reference;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
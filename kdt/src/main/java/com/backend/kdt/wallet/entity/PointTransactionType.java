@@ -0,0 +1,8 @@
+package com.backend.kdt.wallet.entity;
+
+public enum PointTransactionType {
+    CHARGE,            // 포인트 충전 (+)
+    ITEM_PURCHASE,     // 상점 아이템 구매 (-)
+    PRODUCT_PURCHASE,  // 특산물 상품 구매 (-)
+    DONATION           // 기부 (-)
+}
@@ -0,0 +1,9 @@
+package com.backend.kdt.wallet.repository;
+
+/**
+ * 원장 구간의 사용자별 합계 projection (스냅샷 갱신용)
+ */
+public interface LedgerDeltaView {
+    Long getUserId();
+    Long getAmount();
+}
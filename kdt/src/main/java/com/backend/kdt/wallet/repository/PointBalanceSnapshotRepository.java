@@ -0,0 +1,15 @@
+package com.backend.kdt.wallet.repository;
+
+import com.backend.kdt.wallet.entity.PointBalanceSnapshot;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PointBalanceSnapshotRepository extends JpaRepository<PointBalanceSnapshot, Long> {
+
+    // 스냅샷에 반영된 마지막 시각 (구간 단위로 반영하므로 전체 기준 워터마크, 스냅샷이 없으면 null)
+    @Query("SELECT MAX(s.coveredUntil) FROM PointBalanceSnapshot s")
+    LocalDateTime findWatermark();
+}
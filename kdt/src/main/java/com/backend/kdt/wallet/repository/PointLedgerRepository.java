@@ -0,0 +1,31 @@
+package com.backend.kdt.wallet.repository;
+
+import com.backend.kdt.wallet.entity.PointLedgerEntry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PointLedgerRepository extends JpaRepository<PointLedgerEntry, Long> {
+
+    @Query("SELECT MIN(l.createdAt) FROM PointLedgerEntry l")
+    LocalDateTime findEarliestCreatedAt();
+
+    @Query("SELECT l.userId AS userId, SUM(l.amount) AS amount "
+            + "FROM PointLedgerEntry l WHERE l.createdAt <= :upTo GROUP BY l.userId")
+    List<LedgerDeltaView> summarizeUpTo(@Param("upTo") LocalDateTime upTo);
+
+    @Query("SELECT l.userId AS userId, SUM(l.amount) AS amount "
+            + "FROM PointLedgerEntry l WHERE l.createdAt > :after AND l.createdAt <= :upTo GROUP BY l.userId")
+    List<LedgerDeltaView> summarizeRange(@Param("after") LocalDateTime after, @Param("upTo") LocalDateTime upTo);
+
+    @Query("SELECT COALESCE(SUM(l.amount), 0) FROM PointLedgerEntry l WHERE l.userId = :userId")
+    long sumAmount(@Param("userId") Long userId);
+
+    @Query("SELECT COALESCE(SUM(l.amount), 0) FROM PointLedgerEntry l "
+            + "WHERE l.userId = :userId AND l.createdAt > :after")
+    long sumAmountAfter(@Param("userId") Long userId, @Param("after") LocalDateTime after);
+}
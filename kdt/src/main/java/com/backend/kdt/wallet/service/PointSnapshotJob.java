@@ -0,0 +1,123 @@
+package com.backend.kdt.wallet.service;
+
+import com.backend.kdt.wallet.entity.PointBalanceSnapshot;
+import com.backend.kdt.wallet.repository.LedgerDeltaView;
+import com.backend.kdt.wallet.repository.PointBalanceSnapshotRepository;
+import com.backend.kdt.wallet.repository.PointLedgerRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 원장 잔액 스냅샷 갱신
+ * - 원장 ID는 pooled 시퀀스로 커밋 전에 할당되어 작은 ID가 나중에 커밋될 수 있음 → ID 대신 생성 시각 기준으로 반영
+ * - 생성 후 settle-seconds가 지난 항목만 반영 (원장을 쓰는 트랜잭션은 그 안에 끝난다고 보는 안전 지연)
+ * - 마지막 반영 시각 이후를 시간 구간 단위로 사용자별 합산해 스냅샷에 누적
+ * - 원장 잔액 조회는 스냅샷 + 그 이후 항목만 합산하면 되므로 원장 전체를 다시 읽지 않음
+ */
+@Slf4j
+@Component
+public class PointSnapshotJob {
+
+    private final PointLedgerRepository ledgerRepository;
+    private final PointBalanceSnapshotRepository snapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Duration settleDelay;
+    private final Duration window;
+
+    public PointSnapshotJob(PointLedgerRepository ledgerRepository,
+                            PointBalanceSnapshotRepository snapshotRepository,
+                            TransactionTemplate transactionTemplate,
+                            Clock clock,
+                            @Value("${wallet.snapshot.settle-seconds:60}") long settleSeconds,
+                            @Value("${wallet.snapshot.window-minutes:60}") long windowMinutes) {
+        this.ledgerRepository = ledgerRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.settleDelay = Duration.ofSeconds(settleSeconds);
+        this.window = Duration.ofMinutes(windowMinutes);
+    }
+
+    @Scheduled(fixedDelayString = "${wallet.snapshot.interval-millis:600000}",
+            initialDelayString = "${wallet.snapshot.interval-millis:600000}")
+    public void scheduledSnapshot() {
+        snapshot();
+    }
+
+    /**
+     * 안전 지연이 지난 원장 항목을 스냅샷에 반영, 갱신된 사용자 수 반환
+     */
+    public int snapshot() {
+        // 구간 경계는 초 단위 (저장된 시각의 정밀도와 무관하게 경계가 정확히 일치)
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(settleDelay).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime after = snapshotRepository.findWatermark();
+        LocalDateTime windowStart = after != null ? after : ledgerRepository.findEarliestCreatedAt();
+        if (windowStart == null) {
+            return 0;
+        }
+
+        int updatedUsers = 0;
+        while (windowStart.isBefore(cutoff)) {
+            LocalDateTime from = after;
+            LocalDateTime upTo = min(windowStart.truncatedTo(ChronoUnit.SECONDS).plus(window), cutoff);
+            Integer updated = transactionTemplate.execute(status -> applyRange(from, upTo));
+            updatedUsers += updated == null ? 0 : updated;
+            after = upTo;
+            windowStart = upTo;
+        }
+
+        if (updatedUsers > 0) {
+            log.info("포인트 스냅샷 갱신: 사용자 {}명, {}까지 생성된 원장", updatedUsers, cutoff);
+        }
+        return updatedUsers;
+    }
+
+    // (after, upTo] 구간에 생성된 원장 반영 (after가 null이면 처음부터)
+    private int applyRange(LocalDateTime after, LocalDateTime upTo) {
+        List<LedgerDeltaView> deltas = after == null
+                ? ledgerRepository.summarizeUpTo(upTo)
+                : ledgerRepository.summarizeRange(after, upTo);
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, PointBalanceSnapshot> snapshots = snapshotRepository
+                .findAllById(deltas.stream().map(LedgerDeltaView::getUserId).toList())
+                .stream()
+                .collect(Collectors.toMap(PointBalanceSnapshot::getUserId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (LedgerDeltaView delta : deltas) {
+            PointBalanceSnapshot snapshot = snapshots.get(delta.getUserId());
+            if (snapshot == null) {
+                snapshotRepository.save(PointBalanceSnapshot.builder()
+                        .userId(delta.getUserId())
+                        .balance(delta.getAmount())
+                        .coveredUntil(upTo)
+                        .snapshotAt(now)
+                        .build());
+            } else {
+                snapshot.setBalance(snapshot.getBalance() + delta.getAmount());
+                snapshot.setCoveredUntil(upTo);
+                snapshot.setSnapshotAt(now);
+            }
+        }
+        return deltas.size();
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
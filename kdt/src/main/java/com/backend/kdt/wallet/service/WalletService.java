@@ -0,0 +1,96 @@
+package com.backend.kdt.wallet.service;
+
+import com.backend.kdt.auth.repository.UserRepository;
+import com.backend.kdt.wallet.entity.PointBalanceSnapshot;
+import com.backend.kdt.wallet.entity.PointLedgerEntry;
+import com.backend.kdt.wallet.entity.PointTransactionType;
+import com.backend.kdt.wallet.repository.PointBalanceSnapshotRepository;
+import com.backend.kdt.wallet.repository.PointLedgerRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 포인트 지갑
+ * - 잔액(users.point)은 이 서비스의 UPDATE로만 변경 (엔티티 setPoint는 반영되지 않음)
+ * - 차감은 "point >= 금액"인 경우에만 적용되는 조건부 UPDATE 한 번 (동시 구매로도 음수가 되지 않음)
+ * - 모든 증감은 잔액 UPDATE와 같은 트랜잭션에서 원장에 기록 (롤백 시 함께 취소, 커밋되면 원장도 남음)
+ */
+@Service
+@RequiredArgsConstructor
+public class WalletService {
+
+    private final UserRepository userRepository;
+    private final PointLedgerRepository ledgerRepository;
+    private final PointBalanceSnapshotRepository snapshotRepository;
+    private final Clock clock;
+
+    /**
+     * 포인트 적립, 적립 후 잔액 반환
+     */
+    @Transactional
+    public long credit(Long userId, long amount, PointTransactionType type, String reference) {
+        validateAmount(amount);
+        if (userRepository.creditPoint(userId, amount) == 0) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다");
+        }
+        ledgerRepository.save(entry(userId, amount, type, reference));
+        return getBalance(userId);
+    }
+
+    /**
+     * 포인트 차감, 차감 후 잔액 반환 (잔액 부족 시 IllegalArgumentException)
+     */
+    @Transactional
+    public long debit(Long userId, long amount, PointTransactionType type, String reference) {
+        validateAmount(amount);
+        if (userRepository.debitPoint(userId, amount) == 0) {
+            if (!userRepository.existsById(userId)) {
+                throw new EntityNotFoundException("사용자를 찾을 수 없습니다");
+            }
+            throw new IllegalArgumentException("포인트가 부족합니다. 필요 포인트: " + amount);
+        }
+        ledgerRepository.save(entry(userId, -amount, type, reference));
+        return getBalance(userId);
+    }
+
+    /**
+     * 현재 잔액 (users.point 단일 컬럼 조회)
+     */
+    @Transactional(readOnly = true)
+    public long getBalance(Long userId) {
+        return userRepository.findPointById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다"));
+    }
+
+    /**
+     * 원장 기준 잔액 (마지막 스냅샷 + 이후 생성된 원장 합계, 정산/검증용)
+     */
+    @Transactional(readOnly = true)
+    public long getLedgerBalance(Long userId) {
+        PointBalanceSnapshot snapshot = snapshotRepository.findById(userId).orElse(null);
+        if (snapshot == null) {
+            return ledgerRepository.sumAmount(userId);
+        }
+        return snapshot.getBalance() + ledgerRepository.sumAmountAfter(userId, snapshot.getCoveredUntil());
+    }
+
+    private PointLedgerEntry entry(Long userId, long amount, PointTransactionType type, String reference) {
+        return PointLedgerEntry.builder()
+                .userId(userId)
+                .transactionType(type)
+                .amount(amount)
+                .reference(reference)
+                .createdAt(LocalDateTime.now(clock))
+                .build();
+    }
+
+    private void validateAmount(long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("금액은 0보다 커야 합니다.");
+        }
+    }
+}
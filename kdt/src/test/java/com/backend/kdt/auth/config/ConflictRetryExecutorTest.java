@@ -0,0 +1,54 @@
+package com.backend.kdt.auth.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+class ConflictRetryExecutorTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ConflictRetryExecutor executor = new ConflictRetryExecutor(meterRegistry, 3, 1, 2);
+
+	@Test
+	void retriesConflictsUntilSuccess() {
+		AtomicInteger calls = new AtomicInteger();
+		String result = executor.execute("op", () -> {
+			if (calls.incrementAndGet() < 3) {
+				throw new OptimisticLockingFailureException("version");
+			}
+			return "ok";
+		});
+
+		assertThat(result).isEqualTo("ok");
+		assertThat(calls).hasValue(3);
+		assertThat(meterRegistry.counter("retry.conflict.retries", "operation", "op").count()).isEqualTo(2);
+	}
+
+	@Test
+	void givesUpAfterMaxAttempts() {
+		AtomicInteger calls = new AtomicInteger();
+		assertThatThrownBy(() -> executor.execute("op", () -> {
+			calls.incrementAndGet();
+			throw new IllegalStateException("wrapped", new CannotAcquireLockException("deadlock"));
+		})).isInstanceOf(IllegalStateException.class);
+
+		assertThat(calls).hasValue(3);
+		assertThat(meterRegistry.counter("retry.conflict.exhausted", "operation", "op").count()).isEqualTo(1);
+	}
+
+	@Test
+	void doesNotRetryOtherFailures() {
+		AtomicInteger calls = new AtomicInteger();
+		assertThatThrownBy(() -> executor.execute("op", () -> {
+			calls.incrementAndGet();
+			throw new IllegalArgumentException("포인트가 부족합니다.");
+		})).isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(calls).hasValue(1);
+	}
+}
@@ -0,0 +1,83 @@
+package com.backend.kdt.auth.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.backend.kdt.auth.entity.CookieRule;
+import com.backend.kdt.auth.entity.User;
+import com.backend.kdt.auth.repository.UserRepository;
+import com.backend.kdt.auth.security.JwtUtil;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+// 새 DB에서 기동 시 초기 데이터로 가장 먼저 저장되는 사용자(ID 1)를 운영자로 지정
+@SpringBootTest(properties = {
+		"jwt.secret=AAECAwQFBgcICQoLDA0ODxAREhMUFRYXGBkaGxwdHh8gISIjJCUmJygpKissLS4vMDEyMzQ1Njc4OTo7PD0+Pw==",
+		"spring.datasource.url=jdbc:h2:mem:security-config;DB_CLOSE_DELAY=-1",
+		"security.admin-user-ids=1"})
+@AutoConfigureMockMvc
+class SecurityConfigTest {
+
+	private static final long ADMIN_USER_ID = 1L;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Test
+	void healthIsPublic() throws Exception {
+		mockMvc.perform(get("/actuator/health"))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void metricsRequireAuthentication() throws Exception {
+		mockMvc.perform(get("/actuator/metrics"))
+				.andExpect(status().isForbidden());
+
+		User user = userRepository.findUserByUserName("user456").orElseThrow();
+		mockMvc.perform(get("/actuator/metrics").cookie(accessToken(user)))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void configuredAdminCanGrantExperience() throws Exception {
+		User admin = userRepository.findById(ADMIN_USER_ID).orElseThrow();
+
+		mockMvc.perform(bulkGrant(admin.getId()).cookie(accessToken(admin)))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void regularUserIsForbiddenFromAdminEndpoints() throws Exception {
+		User user = userRepository.findUserByUserName("user456").orElseThrow();
+
+		mockMvc.perform(bulkGrant(user.getId()).cookie(accessToken(user)))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(bulkGrant(user.getId()))
+				.andExpect(status().isForbidden());
+	}
+
+	private MockHttpServletRequestBuilder bulkGrant(Long userId) {
+		return post("/admin/characters/experience/bulk")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"userIds\":[" + userId + "],\"experience\":10}");
+	}
+
+	private Cookie accessToken(User user) {
+		return new Cookie(CookieRule.ACCESS_TOKEN_NAME.getValue(),
+				jwtUtil.generateToken(user.getUserName(), user.getId(), user.getTokenVersion()));
+	}
+}
@@ -0,0 +1,71 @@
+package com.backend.kdt.auth.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.backend.kdt.auth.entity.CookieRule;
+import com.backend.kdt.auth.entity.User;
+import com.backend.kdt.auth.repository.UserRepository;
+import com.backend.kdt.auth.security.JwtUtil;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+// 기동 시 초기 데이터로 생성되는 사용자(user456 / user456)로 검증
+@SpringBootTest(properties = {
+		"jwt.secret=AAECAwQFBgcICQoLDA0ODxAREhMUFRYXGBkaGxwdHh8gISIjJCUmJygpKissLS4vMDEyMzQ1Njc4OTo7PD0+Pw==",
+		"spring.datasource.url=jdbc:h2:mem:password-change;DB_CLOSE_DELAY=-1"})
+@AutoConfigureMockMvc
+class PasswordChangeTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Test
+	void changingPasswordRevokesOldTokensAndIssuesANewOne() throws Exception {
+		User user = userRepository.findUserByUserName("user456").orElseThrow();
+		Cookie oldToken = accessToken(jwtUtil.generateToken(user.getUserName(), user.getId(), user.getTokenVersion()));
+
+		mockMvc.perform(changePassword("wrong-password", "changed456").cookie(oldToken))
+				.andExpect(status().isUnauthorized());
+
+		Cookie newToken = mockMvc.perform(changePassword("user456", "changed456").cookie(oldToken))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getCookie(CookieRule.ACCESS_TOKEN_NAME.getValue());
+
+		assertThat(userRepository.findTokenVersionById(user.getId())).contains(user.getTokenVersion() + 1);
+		mockMvc.perform(get("/v1/users/register/me").cookie(oldToken))
+				.andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/v1/users/register/me").cookie(accessToken(newToken.getValue())))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void anonymousRequestIsRejected() throws Exception {
+		mockMvc.perform(changePassword("demo789", "changed789"))
+				.andExpect(status().isUnauthorized());
+	}
+
+	private MockHttpServletRequestBuilder changePassword(String currentPassword, String newPassword) {
+		return post("/v1/users/register/password")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"currentPassword\":\"" + currentPassword + "\",\"newPassword\":\"" + newPassword + "\"}");
+	}
+
+	private static Cookie accessToken(String token) {
+		return new Cookie(CookieRule.ACCESS_TOKEN_NAME.getValue(), token);
+	}
+}
@@ -0,0 +1,52 @@
+package com.backend.kdt.auth.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.kdt.auth.entity.Age;
+import com.backend.kdt.auth.entity.Gender;
+import com.backend.kdt.auth.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserRepositoryBatchInsertTest {
+
+	private static final int USER_COUNT = 200;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void saveAllUsesPooledIdsAndBatchedInserts() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		List<User> users = IntStream.range(0, USER_COUNT)
+				.mapToObj(i -> User.builder()
+						.userName("batch-user-" + i)
+						.password("password")
+						.gender(Gender.MALE)
+						.age(Age.TEENS_20S)
+						.build())
+				.toList();
+
+		statistics.clear();
+		userRepository.saveAll(users);
+		entityManager.flush();
+
+		// 건별 IDENTITY insert였다면 200개 이상, 시퀀스 할당(50개 단위) + 배치 insert(50개 단위)면 10개 안팎
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(USER_COUNT);
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(USER_COUNT / 50 * 2 + 2);
+	}
+}
@@ -0,0 +1,21 @@
+package com.backend.kdt.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class BCryptCostCalibratorTest {
+
+	@Test
+	void neverGoesBelowMinimumStrength() {
+		// 어떤 cost도 0ms 안에 끝나지 않으므로 최소 cost 유지
+		assertThat(BCryptCostCalibrator.calibrate(0)).isEqualTo(BCryptCostCalibrator.MIN_STRENGTH);
+	}
+
+	@Test
+	void picksHigherStrengthWithinLargerBudget() {
+		int strength = BCryptCostCalibrator.calibrate(60_000);
+
+		assertThat(strength).isEqualTo(BCryptCostCalibrator.MAX_STRENGTH);
+	}
+}
@@ -0,0 +1,47 @@
+package com.backend.kdt.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+	@Test
+	void hasNoFalseNegatives() {
+		BloomFilter filter = new BloomFilter(10_000, 0.001);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("jti-" + i);
+		}
+
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(filter.mightContain("jti-" + i)).isTrue();
+		}
+	}
+
+	@Test
+	void keepsFalsePositivesNearConfiguredRate() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("member-" + i);
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 100_000; i++) {
+			if (filter.mightContain("stranger-" + i)) {
+				falsePositives++;
+			}
+		}
+		// 목표 1% → 여유를 두고 2% 미만
+		assertThat(falsePositives).isLessThan(2_000);
+	}
+
+	@Test
+	void emptyFilterContainsNothing() {
+		BloomFilter filter = new BloomFilter(0, 0.01);
+
+		assertThat(filter.mightContain("")).isFalse();
+		assertThat(filter.mightContain("anything")).isFalse();
+		filter.put("");
+		assertThat(filter.mightContain("")).isTrue();
+	}
+}
@@ -0,0 +1,96 @@
+package com.backend.kdt.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Date;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtUtilVerifyTest {
+
+	@TempDir
+	Path tempDir;
+
+	private final SecretKey key = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+	private VerifiedTokenCache cache;
+	private SecurityAuditLog auditLog;
+	private JwtUtil jwtUtil;
+
+	@BeforeEach
+	void setUp() {
+		cache = new VerifiedTokenCache(100);
+		auditLog = new SecurityAuditLog(64, 1.0, tempDir.resolve("audit.log").toString(), 1_048_576, 1, 50);
+		jwtUtil = new JwtUtil(cache, auditLog);
+		ReflectionTestUtils.setField(jwtUtil, "SECRET_KEY", Base64.getEncoder().encodeToString(key.getEncoded()));
+		jwtUtil.init();
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		auditLog.shutdown();
+	}
+
+	@Test
+	void secondVerifyIsServedFromCache() {
+		String token = jwtUtil.generateToken("user@example.com", 1L, 0);
+
+		VerifiedToken first = jwtUtil.verify(token);
+		VerifiedToken second = jwtUtil.verify(token);
+
+		assertThat(second).isSameAs(first);
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(second.getUserId()).isEqualTo(1L);
+	}
+
+	@Test
+	void expiredTokenIsRejectedAndNotCached() {
+		String token = Jwts.builder()
+				.setSubject("user@example.com")
+				.setExpiration(new Date(System.currentTimeMillis() - 1_000))
+				.signWith(key, SignatureAlgorithm.HS512)
+				.compact();
+
+		assertThatThrownBy(() -> jwtUtil.verify(token)).isInstanceOf(ExpiredJwtException.class);
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void tamperedTokenIsRejectedAndNotCached() {
+		String token = jwtUtil.generateToken("user@example.com", 1L, 0);
+		String[] parts = token.split("\\.");
+		String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString("{\"sub\":\"admin@example.com\",\"uid\":2,\"ver\":0}".getBytes());
+		String tampered = parts[0] + "." + forgedPayload + "." + parts[2];
+
+		assertThatThrownBy(() -> jwtUtil.verify(tampered)).isInstanceOf(JwtException.class);
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void revokedTokenIsFlaggedEvenWhenServedFromCache() {
+		TokenRevocationRegistry registry = new TokenRevocationRegistry(1000, 60_000, 172_800_000);
+		try {
+			String token = jwtUtil.generateToken("user@example.com", 1L, 0);
+			VerifiedToken verified = jwtUtil.verify(token);
+			registry.revoke(verified.getTokenId(), verified.getExpirationMillis());
+
+			VerifiedToken cached = jwtUtil.verify(token);
+			assertThat(cached).isSameAs(verified);
+			assertThat(registry.isRevoked(cached.getTokenId())).isTrue();
+		} finally {
+			registry.shutdown();
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.backend.kdt.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LoginRateLimiterTest {
+
+	private static final long START = TimeUnit.HOURS.toNanos(1);
+
+	@Test
+	void accountBucketRejectsWithRetryAfterAndRefills() {
+		LoginRateLimiter limiter = new LoginRateLimiter(100, 60, 5, 1, 1000);
+		for (int i = 0; i < 5; i++) {
+			assertThat(limiter.tryAcquire("10.0.0.1", "alice", START)).isZero();
+		}
+
+		// 분당 1개 충전 → 다음 토큰까지 60초
+		assertThat(limiter.tryAcquire("10.0.0.1", "alice", START)).isCloseTo(60L, within(1L));
+		assertThat(limiter.tryAcquire("10.0.0.1", "alice", START + TimeUnit.SECONDS.toNanos(30))).isCloseTo(30L, within(1L));
+
+		long refilled = START + TimeUnit.SECONDS.toNanos(61);
+		assertThat(limiter.tryAcquire("10.0.0.1", "alice", refilled)).isZero();
+		assertThat(limiter.tryAcquire("10.0.0.1", "alice", refilled)).isPositive();
+	}
+
+	@Test
+	void successfulLoginsDoNotLockTheAccount() {
+		LoginRateLimiter limiter = new LoginRateLimiter(100, 60, 5, 1, 1000);
+		for (int i = 0; i < 20; i++) {
+			assertThat(limiter.tryAcquire("10.0.0.5", "erin", START)).isZero();
+			limiter.refund("erin", START);
+		}
+
+		// 실패한 시도만 누적: 4번 실패 후에도 1번 남고, 그 다음부터 거절
+		for (int i = 0; i < 4; i++) {
+			assertThat(limiter.tryAcquire("10.0.0.5", "erin", START)).isZero();
+		}
+		assertThat(limiter.tryAcquire("10.0.0.5", "erin", START)).isZero();
+		limiter.refund("erin", START);
+		assertThat(limiter.tryAcquire("10.0.0.5", "erin", START)).isZero();
+		assertThat(limiter.tryAcquire("10.0.0.5", "erin", START)).isPositive();
+	}
+
+	@Test
+	void refundNeverExceedsCapacity() {
+		LoginRateLimiter limiter = new LoginRateLimiter(100, 60, 2, 1, 1000);
+		limiter.refund("frank", START);
+		limiter.refund("frank", START);
+
+		assertThat(limiter.tryAcquire("10.0.0.6", "frank", START)).isZero();
+		assertThat(limiter.tryAcquire("10.0.0.6", "frank", START)).isZero();
+		assertThat(limiter.tryAcquire("10.0.0.6", "frank", START)).isPositive();
+	}
+
+	@Test
+	void ipBucketLimitsAcrossAccounts() {
+		LoginRateLimiter limiter = new LoginRateLimiter(2, 10, 5, 1, 1000);
+		assertThat(limiter.tryAcquire("10.0.0.2", "alice", START)).isZero();
+		assertThat(limiter.tryAcquire("10.0.0.2", "bob", START)).isZero();
+
+		// 분당 10개 충전 → 다음 토큰까지 6초
+		assertThat(limiter.tryAcquire("10.0.0.2", "carol", START)).isCloseTo(6L, within(1L));
+		assertThat(limiter.tryAcquire("10.0.0.3", "carol", START)).isZero();
+	}
+
+	@Test
+	void bucketNeverRefillsBeyondCapacity() {
+		LoginRateLimiter limiter = new LoginRateLimiter(100, 60, 2, 1, 1000);
+		limiter.tryAcquire("10.0.0.4", "dave", START);
+
+		long muchLater = START + TimeUnit.HOURS.toNanos(1);
+		assertThat(limiter.tryAcquire("10.0.0.4", "dave", muchLater)).isZero();
+		assertThat(limiter.tryAcquire("10.0.0.4", "dave", muchLater)).isZero();
+		assertThat(limiter.tryAcquire("10.0.0.4", "dave", muchLater)).isPositive();
+	}
+}
@@ -0,0 +1,88 @@
+package com.backend.kdt.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SecurityAuditLogTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void writesEventsAsJsonLinesWithoutRawToken() throws Exception {
+		Path file = tempDir.resolve("audit.log");
+		SecurityAuditLog auditLog = new SecurityAuditLog(64, 1.0, file.toString(), 1_048_576, 2, 50);
+
+		auditLog.record(SecurityEventType.TOKEN_REJECTED, "user\"1", "raw.jwt.token", "bad\nsignature");
+		auditLog.record(SecurityEventType.COOKIE_CLEARED, null, null, null);
+		auditLog.shutdown();
+
+		List<String> lines = Files.readAllLines(file);
+		assertThat(lines).hasSize(2);
+		assertThat(lines.get(0))
+				.contains("\"type\":\"TOKEN_REJECTED\"")
+				.contains("\"subject\":\"user\\\"1\"")
+				.contains("\"token\":\"" + TokenDigests.fingerprint("raw.jwt.token") + "\"")
+				.contains("\"detail\":\"bad\\nsignature\"")
+				.doesNotContain("raw.jwt.token");
+		assertThat(lines.get(1)).contains("\"subject\":null,\"token\":\"-\",\"detail\":null");
+	}
+
+	@Test
+	void samplesSuccessEventsOnly() throws Exception {
+		Path file = tempDir.resolve("audit.log");
+		SecurityAuditLog auditLog = new SecurityAuditLog(64, 0.0, file.toString(), 1_048_576, 2, 50);
+
+		for (int i = 0; i < 10; i++) {
+			auditLog.record(SecurityEventType.TOKEN_VERIFIED, "user", "token", null);
+		}
+		auditLog.record(SecurityEventType.TOKEN_EXPIRED, "user", "token", null);
+		auditLog.shutdown();
+
+		assertThat(Files.readAllLines(file)).singleElement()
+				.asString().contains("\"type\":\"TOKEN_EXPIRED\"");
+	}
+
+	@Test
+	void dropsEventsInsteadOfBlockingWhenBufferIsFull() throws Exception {
+		Path file = tempDir.resolve("audit.log");
+		// flush 간격을 길게 두어 writer가 잠든 사이 버퍼(4칸)를 넘김
+		SecurityAuditLog auditLog = new SecurityAuditLog(4, 1.0, file.toString(), 1_048_576, 2, 60_000);
+		Thread.sleep(100);
+
+		for (int i = 0; i < 10; i++) {
+			auditLog.record(SecurityEventType.TOKEN_REJECTED, "user" + i, null, null);
+		}
+
+		assertThat(auditLog.getDroppedCount()).isEqualTo(6);
+		auditLog.shutdown();
+		assertThat(Files.readAllLines(file)).hasSize(4);
+	}
+
+	@Test
+	void rollsFilesAndKeepsOnlyMaxFiles() throws Exception {
+		Path file = tempDir.resolve("audit.log");
+		SecurityAuditLog auditLog = new SecurityAuditLog(1024, 1.0, file.toString(), 200, 2, 50);
+
+		for (int i = 0; i < 50; i++) {
+			auditLog.record(SecurityEventType.TOKEN_REJECTED, "user" + i, null, null);
+		}
+		auditLog.shutdown();
+
+		assertThat(file).exists();
+		assertThat(tempDir.resolve("audit.log.1")).exists();
+		assertThat(tempDir.resolve("audit.log.2")).exists();
+		assertThat(tempDir.resolve("audit.log.3")).doesNotExist();
+		assertThat(Files.size(file)).isLessThanOrEqualTo(200 + longestLine(file));
+	}
+
+	private static long longestLine(Path file) throws IOException {
+		return Files.readAllLines(file).stream().mapToLong(line -> line.length() + 1).max().orElse(0);
+	}
+}
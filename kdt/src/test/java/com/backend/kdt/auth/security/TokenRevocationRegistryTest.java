@@ -0,0 +1,85 @@
+package com.backend.kdt.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TokenRevocationRegistryTest {
+
+	private TokenRevocationRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		// 20ms 틱, 최대 TTL 2초 → 휠 102칸
+		registry = new TokenRevocationRegistry(16, 20, 2000);
+	}
+
+	@AfterEach
+	void tearDown() {
+		registry.shutdown();
+	}
+
+	@Test
+	void revokedTokenIsRejectedOthersAreNot() {
+		registry.revoke("jti-1", System.currentTimeMillis() + 60_000);
+
+		assertThat(registry.isRevoked("jti-1")).isTrue();
+		assertThat(registry.isRevoked("jti-2")).isFalse();
+		assertThat(registry.isRevoked(null)).isFalse();
+		assertThat(registry.size()).isEqualTo(1);
+	}
+
+	@Test
+	void ignoresAlreadyExpiredAndDuplicateRevocations() {
+		long now = System.currentTimeMillis();
+		registry.revoke("expired", now - 1);
+		registry.revoke(null, now + 60_000);
+		registry.revoke("jti-1", now + 60_000);
+		registry.revoke("jti-1", now + 90_000);
+
+		assertThat(registry.isRevoked("expired")).isFalse();
+		assertThat(registry.size()).isEqualTo(1);
+	}
+
+	@Test
+	void wheelDropsEntriesOnceTheirTokenExpires() throws InterruptedException {
+		long now = System.currentTimeMillis();
+		registry.revoke("short", now + 100);
+		registry.revoke("long", now + 1500);
+
+		awaitUntil(() -> !registry.isRevoked("short"));
+
+		// 아직 만료되지 않은 토큰은 남아 있음
+		assertThat(registry.isRevoked("long")).isTrue();
+		assertThat(registry.size()).isEqualTo(1);
+
+		awaitUntil(() -> registry.size() == 0);
+		assertThat(registry.isRevoked("long")).isFalse();
+	}
+
+	@Test
+	void staysCorrectAcrossBloomFilterRebuilds() throws InterruptedException {
+		long now = System.currentTimeMillis();
+		for (int i = 0; i < 50; i++) {
+			registry.revoke("old-" + i, now + 60);
+		}
+		awaitUntil(() -> registry.size() == 0);
+
+		// 만료 항목 제거 후 재구성된 필터에도 새 항목이 반영됨
+		registry.revoke("fresh", System.currentTimeMillis() + 60_000);
+		assertThat(registry.isRevoked("fresh")).isTrue();
+		assertThat(registry.isRevoked("old-0")).isFalse();
+	}
+
+	private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(condition.getAsBoolean()).isTrue();
+	}
+}
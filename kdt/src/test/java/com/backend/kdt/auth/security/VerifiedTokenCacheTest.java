@@ -0,0 +1,31 @@
+package com.backend.kdt.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.util.Date;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+	@Test
+	void evictsLeastRecentlyUsedWhenFull() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(2);
+		cache.put("a", token("a"));
+		cache.put("b", token("b"));
+		cache.get("a");
+		cache.put("c", token("c"));
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get("a")).isNotNull();
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("c")).isNotNull();
+	}
+
+	private static VerifiedToken token(String id) {
+		Claims claims = Jwts.claims().setId(id).setSubject(id)
+				.setExpiration(new Date(System.currentTimeMillis() + 60_000));
+		return VerifiedToken.from(claims);
+	}
+}
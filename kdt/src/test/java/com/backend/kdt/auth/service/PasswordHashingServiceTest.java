@@ -0,0 +1,126 @@
+package com.backend.kdt.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordHashingServiceTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private PasswordHashingService service;
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		service.shutdown();
+	}
+
+	@Test
+	void encodesAndMatchesOnWorkerPool() {
+		service = new PasswordHashingService(new BCryptPasswordEncoder(4), meterRegistry, 8, 3000);
+
+		String encoded = service.encode("secret");
+
+		assertThat(service.matches("secret", encoded)).isTrue();
+		assertThat(service.matches("wrong", encoded)).isFalse();
+		assertThat(meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	void rejectsImmediatelyWhenQueueIsFull() throws InterruptedException {
+		service = new PasswordHashingService(blockingEncoder(), meterRegistry, 1, 10_000);
+		int workers = Runtime.getRuntime().availableProcessors();
+
+		// 워커 전부 + 대기열 1칸을 채움
+		List<Thread> callers = new ArrayList<>();
+		for (int i = 0; i <= workers; i++) {
+			Thread caller = new Thread(() -> {
+				try {
+					service.encode("secret");
+				} catch (RuntimeException ignored) {
+					// 테스트 종료 시 풀 정리 과정의 예외는 무시
+				}
+			});
+			caller.setDaemon(true);
+			caller.start();
+			callers.add(caller);
+		}
+		awaitGauge("auth.password.active", workers);
+		awaitGauge("auth.password.queue.depth", 1);
+
+		long start = System.nanoTime();
+		assertThatThrownBy(() -> service.encode("secret"))
+				.isInstanceOf(RejectedExecutionException.class);
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+		assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(1.0);
+
+		release.countDown();
+		for (Thread caller : callers) {
+			caller.join(5000);
+		}
+	}
+
+	@Test
+	void timesOutSlowHashesAsRejection() {
+		service = new PasswordHashingService(blockingEncoder(), meterRegistry, 8, 50);
+
+		assertThatThrownBy(() -> service.matches("secret", "hash"))
+				.isInstanceOf(RejectedExecutionException.class)
+				.hasMessageContaining("시간이 초과");
+		assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void propagatesEncoderFailuresUnchanged() {
+		service = new PasswordHashingService(new BCryptPasswordEncoder(4), meterRegistry, 8, 3000);
+
+		// 인코더 예외는 그대로 전달 (거절로 집계하지 않음)
+		assertThatThrownBy(() -> service.encode(null))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isZero();
+	}
+
+	private PasswordEncoder blockingEncoder() {
+		return new PasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				await();
+				return "hash";
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				await();
+				return true;
+			}
+
+			private void await() {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+	}
+
+	private void awaitGauge(String name, double expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (meterRegistry.get(name).gauge().value() < expected && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(meterRegistry.get(name).gauge().value()).isEqualTo(expected);
+	}
+}
@@ -0,0 +1,52 @@
+package com.backend.kdt.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.kdt.auth.repository.UserRepository;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class UserNameIndexTest {
+
+	@Test
+	void reportsEveryNameAsPossibleUntilLoaded() {
+		UserNameIndex index = new UserNameIndex(userRepository(List.of("test123")), 1000);
+
+		assertThat(index.mightExist("test123")).isTrue();
+		assertThat(index.mightExist("nobody")).isTrue();
+	}
+
+	@Test
+	void loadedIndexRulesOutUnknownNames() {
+		UserNameIndex index = new UserNameIndex(userRepository(List.of("test123", "user456", "demo789")), 1000);
+
+		index.load();
+
+		assertThat(index.mightExist("test123")).isTrue();
+		assertThat(index.mightExist("user456")).isTrue();
+		assertThat(index.mightExist("demo789")).isTrue();
+		assertThat(index.mightExist("nobody")).isFalse();
+	}
+
+	@Test
+	void namesAddedAfterLoadAreReportedAsPossible() {
+		UserNameIndex index = new UserNameIndex(userRepository(List.of()), 1000);
+		index.load();
+		assertThat(index.mightExist("newcomer")).isFalse();
+
+		index.add("newcomer");
+
+		assertThat(index.mightExist("newcomer")).isTrue();
+	}
+
+	private static UserRepository userRepository(List<String> userNames) {
+		return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+				new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+					if (method.getName().equals("streamAllUserNames")) {
+						return userNames.stream();
+					}
+					throw new UnsupportedOperationException(method.getName());
+				});
+	}
+}
@@ -0,0 +1,65 @@
+package com.backend.kdt.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.kdt.auth.entity.Age;
+import com.backend.kdt.auth.entity.Gender;
+import com.backend.kdt.auth.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.transaction.TestTransaction;
+
+@DataJpaTest(properties = "jwt.token-version-cache.max-size=1")
+@Import(UserTokenVersionService.class)
+class UserTokenVersionServiceTest {
+
+	@Autowired
+	private UserTokenVersionService tokenVersionService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void versionBumpRejectsOlderTokens() {
+		User user = persistUser("token-version-user");
+		assertThat(tokenVersionService.isCurrent(user.getId(), 0)).isTrue();
+
+		user.setTokenVersion(1);
+		entityManager.flush();
+		// 변경은 커밋 후에 반영되므로 테스트 트랜잭션을 커밋
+		tokenVersionService.onVersionChanged(user.getId(), 1);
+		assertThat(tokenVersionService.isCurrent(user.getId(), 0)).isTrue();
+		TestTransaction.flagForCommit();
+		TestTransaction.end();
+
+		assertThat(tokenVersionService.isCurrent(user.getId(), 0)).isFalse();
+		assertThat(tokenVersionService.isCurrent(user.getId(), 1)).isTrue();
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedUserAndReloadsFromDatabase() {
+		User first = persistUser("token-version-first");
+		User second = persistUser("token-version-second");
+
+		assertThat(tokenVersionService.isCurrent(first.getId(), 0)).isTrue();
+		assertThat(tokenVersionService.isCurrent(second.getId(), 0)).isTrue();
+
+		// 첫 번째 사용자는 캐시에서 밀려났으므로 DB의 최신 버전으로 다시 판정
+		first.setTokenVersion(2);
+		entityManager.flush();
+		assertThat(tokenVersionService.isCurrent(first.getId(), 0)).isFalse();
+		assertThat(tokenVersionService.isCurrent(first.getId(), 2)).isTrue();
+	}
+
+	private User persistUser(String userName) {
+		return entityManager.persistAndFlush(User.builder()
+				.userName(userName)
+				.password("password")
+				.gender(Gender.FEMALE)
+				.age(Age.TEENS_20S)
+				.build());
+	}
+}
@@ -0,0 +1,29 @@
+package com.backend.kdt.character.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.backend.kdt.shop.entity.ShopItemType;
+import org.junit.jupiter.api.Test;
+
+class EquipmentTest {
+
+	@Test
+	void equippingReplacesItemInSameSlot() {
+		int mask = Equipment.equip(0, ShopItemType.ROSE);
+		mask = Equipment.equip(mask, ShopItemType.CAR_CROWN);
+
+		assertThat(Equipment.isEquipped(mask, ShopItemType.CAR_CROWN)).isTrue();
+		assertThat(Equipment.isEquipped(mask, ShopItemType.ROSE)).isFalse();
+		assertThat(Equipment.count(mask)).isEqualTo(1);
+
+		mask = Equipment.unequip(mask, ShopItemType.CAR_CROWN);
+		assertThat(mask).isZero();
+	}
+
+	@Test
+	void consumablesCannotBeEquipped() {
+		assertThatThrownBy(() -> Equipment.equip(0, ShopItemType.PERSIMMON))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
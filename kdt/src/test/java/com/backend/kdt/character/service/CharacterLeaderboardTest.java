@@ -0,0 +1,81 @@
+package com.backend.kdt.character.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import com.backend.kdt.character.entity.CharacterType;
+import com.backend.kdt.character.repository.CharacterRepository;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class CharacterLeaderboardTest {
+
+	@Test
+	void olderEventArrivingLateDoesNotRegressRanking() {
+		CharacterLeaderboard leaderboard = new CharacterLeaderboard(repository(List::of));
+		leaderboard.rebuild();
+
+		leaderboard.onCharacterChanged(event(1L, 3, 10L));
+		leaderboard.onCharacterChanged(event(2L, 2, 150L));
+		// 1번 사용자의 이전 상태(레벨 2)가 늦게 도착
+		leaderboard.onCharacterChanged(event(1L, 2, 50L));
+
+		assertThat(leaderboard.rankOf(1L)).get()
+				.satisfies(entry -> {
+					assertThat(entry.getRank()).isEqualTo(1);
+					assertThat(entry.getLevel()).isEqualTo(3);
+					assertThat(entry.getExperience()).isEqualTo(10L);
+				});
+		assertThat(leaderboard.size()).isEqualTo(2);
+	}
+
+	@Test
+	void rebuildSkipsPendingEventsOlderThanSnapshot() {
+		CharacterLeaderboard[] holder = new CharacterLeaderboard[1];
+		CharacterLeaderboard leaderboard = new CharacterLeaderboard(repository(() -> {
+			// 재구성 중 도착한 이벤트: DB 스냅샷보다 이전 상태
+			holder[0].onCharacterChanged(event(1L, 1, 90L));
+			return List.of(event(1L, 2, 20L));
+		}));
+		holder[0] = leaderboard;
+
+		leaderboard.rebuild();
+
+		assertThat(leaderboard.rankOf(1L)).get()
+				.satisfies(entry -> assertThat(entry.getLevel()).isEqualTo(2));
+	}
+
+	@Test
+	void failedRebuildReleasesPendingEvents() {
+		CharacterLeaderboard[] holder = new CharacterLeaderboard[1];
+		CharacterLeaderboard leaderboard = new CharacterLeaderboard(repository(() -> {
+			holder[0].onCharacterChanged(event(1L, 2, 0L));
+			throw new IllegalStateException("db down");
+		}));
+		holder[0] = leaderboard;
+
+		// 시작 시 재구성 실패는 기동을 막지 않음
+		assertThatCode(leaderboard::rebuild).doesNotThrowAnyException();
+
+		// 대기 중이던 이벤트는 반영되고, 이후 이벤트는 대기열에 쌓이지 않고 바로 반영
+		assertThat(leaderboard.rankOf(1L)).isPresent();
+		leaderboard.onCharacterChanged(event(2L, 1, 10L));
+		assertThat(leaderboard.size()).isEqualTo(2);
+	}
+
+	private static CharacterChangedEvent event(Long userId, int level, long experience) {
+		return new CharacterChangedEvent(userId, userId * 10, "토덕이", CharacterType.DUCK, level, experience);
+	}
+
+	private static CharacterRepository repository(Supplier<List<CharacterChangedEvent>> rankingEntries) {
+		return (CharacterRepository) Proxy.newProxyInstance(CharacterRepository.class.getClassLoader(),
+				new Class<?>[]{CharacterRepository.class}, (proxy, method, args) -> {
+					if (method.getName().equals("findAllRankingEntries")) {
+						return rankingEntries.get();
+					}
+					throw new UnsupportedOperationException(method.getName());
+				});
+	}
+}
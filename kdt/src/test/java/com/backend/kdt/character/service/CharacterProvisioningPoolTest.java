@@ -0,0 +1,109 @@
+package com.backend.kdt.character.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.kdt.auth.entity.Age;
+import com.backend.kdt.auth.entity.Gender;
+import com.backend.kdt.auth.entity.User;
+import com.backend.kdt.auth.repository.UserRepository;
+import com.backend.kdt.character.dto.CharacterDto;
+import com.backend.kdt.character.entity.CharacterType;
+import com.backend.kdt.character.repository.CharacterRepository;
+import com.backend.kdt.inventory.entity.UserItem;
+import com.backend.kdt.inventory.repository.UserItemRepository;
+import com.backend.kdt.inventory.service.UserItemStore;
+import com.backend.kdt.shop.entity.ShopItemType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.ZoneId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 운영 설정과 같은 커넥션 1개짜리 풀: 트랜잭션 안에서 커넥션을 하나 더 요구하면 타임아웃으로 실패
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:pool-one;DB_CLOSE_DELAY=-1",
+		"spring.datasource.hikari.maximum-pool-size=1",
+		"spring.datasource.hikari.connection-timeout=1000"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CharacterService.class, CharacterActivityEngine.class, DailyActivityLimiter.class,
+		DefaultCharacterProvisioner.class, CharacterStateCache.class, UserItemStore.class,
+		CharacterProvisioningPoolTest.ClockConfig.class})
+class CharacterProvisioningPoolTest {
+
+	@TestConfiguration
+	static class ClockConfig {
+		@Bean
+		Clock clock() {
+			return Clock.system(ZoneId.of("Asia/Seoul"));
+		}
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@Autowired
+	private CharacterService characterService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CharacterRepository characterRepository;
+
+	@Autowired
+	private UserItemRepository userItemRepository;
+
+	@AfterEach
+	void tearDown() {
+		characterRepository.deleteAll();
+		userItemRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	void addExperienceCreatesMissingCharacterWithSingleConnection() {
+		Long userId = saveUser("pool-exp").getId();
+
+		CharacterDto character = characterService.addExperience(userId, 30L);
+
+		assertThat(character.getCharacterType()).isEqualTo(CharacterType.EGG);
+		assertThat(character.getExperience()).isEqualTo(30L);
+		assertThat(characterRepository.findByUserId(userId)).isPresent();
+	}
+
+	@Test
+	void equipItemCreatesMissingCharacterWithSingleConnection() {
+		Long userId = saveUser("pool-equip").getId();
+		userItemRepository.save(UserItem.builder()
+				.userId(userId)
+				.itemType(ShopItemType.ROSE)
+				.count(1)
+				.build());
+
+		CharacterDto character = characterService.equipItem(userId, ShopItemType.ROSE, true);
+
+		assertThat(character.getEquippedRose()).isTrue();
+		assertThat(characterRepository.findByUserId(userId)).isPresent();
+	}
+
+	private User saveUser(String userName) {
+		return userRepository.save(User.builder()
+				.userName(userName)
+				.password("password")
+				.gender(Gender.FEMALE)
+				.age(Age.TEENS_20S)
+				.build());
+	}
+}
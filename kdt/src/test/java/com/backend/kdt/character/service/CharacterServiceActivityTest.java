@@ -0,0 +1,113 @@
+package com.backend.kdt.character.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.backend.kdt.auth.entity.Age;
+import com.backend.kdt.auth.entity.Gender;
+import com.backend.kdt.auth.entity.User;
+import com.backend.kdt.character.entity.Character;
+import com.backend.kdt.character.entity.CharacterType;
+import com.backend.kdt.inventory.entity.UserItem;
+import com.backend.kdt.inventory.service.UserItemStore;
+import com.backend.kdt.pay.dto.GameCompletionResponseDto;
+import com.backend.kdt.shop.entity.ShopItemType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Clock;
+import java.time.ZoneId;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({CharacterService.class, CharacterActivityEngine.class, DailyActivityLimiter.class,
+		DefaultCharacterProvisioner.class, CharacterStateCache.class, UserItemStore.class,
+		CharacterServiceActivityTest.ClockConfig.class})
+class CharacterServiceActivityTest {
+
+	@TestConfiguration
+	static class ClockConfig {
+		@Bean
+		Clock clock() {
+			return Clock.system(ZoneId.of("Asia/Seoul"));
+		}
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@Autowired
+	private CharacterService characterService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Long userId;
+
+	@BeforeEach
+	void setUp() {
+		User user = entityManager.persist(User.builder()
+				.userName("activity-user")
+				.password("password")
+				.gender(Gender.FEMALE)
+				.age(Age.TEENS_20S)
+				.build());
+		entityManager.persist(UserItem.builder()
+				.userId(user.getId())
+				.itemType(ShopItemType.PERSIMMON)
+				.count(1)
+				.build());
+		entityManager.persist(Character.builder()
+				.user(user)
+				.characterName("알")
+				.characterType(CharacterType.EGG)
+				.build());
+		entityManager.flush();
+		entityManager.clear();
+		userId = user.getId();
+	}
+
+	@Test
+	void activityReadsOnceAndWritesOneUpdatePerRow() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		GameCompletionResponseDto response = characterService.feedCharacter(userId);
+		entityManager.flush();
+
+		// users 조건부 UPDATE 1회, 보유 개수 조회 + user_items 조건부 UPDATE 각 1회,
+		// 캐릭터+사용자 fetch join 조회 1회, characters UPDATE 1회
+		assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+		assertThat(response.getExperienceGained()).isEqualTo(20);
+		assertThat(response.getRemainingDailyGames()).isEqualTo(2);
+	}
+
+	@Test
+	void dailyLimitIsEnforcedByConditionalUpdate() {
+		for (int i = 0; i < 3; i++) {
+			characterService.petCharacter(userId);
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThatThrownBy(() -> characterService.petCharacter(userId))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("쓰다듬기");
+		assertThat(entityManager.find(User.class, userId).getDailyPetCount()).isEqualTo(3);
+	}
+}
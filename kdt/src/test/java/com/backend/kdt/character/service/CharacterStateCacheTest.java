@@ -0,0 +1,96 @@
+package com.backend.kdt.character.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.kdt.character.dto.CharacterDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class CharacterStateCacheTest {
+
+	@Test
+	void concurrentMissesShareOneLoad() throws Exception {
+		CharacterStateCache cache = new CharacterStateCache(new SimpleMeterRegistry(), 100);
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<CharacterDto>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> cache.get(1L, () -> {
+					loads.incrementAndGet();
+					await(release);
+					return CharacterDto.builder().userId(1L).level(1).build();
+				})));
+			}
+			Thread.sleep(100);
+			release.countDown();
+
+			for (Future<CharacterDto> result : results) {
+				assertThat(result.get(5, TimeUnit.SECONDS).getUserId()).isEqualTo(1L);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertThat(loads.get()).isEqualTo(1);
+	}
+
+	@Test
+	void writeThroughReplacesCachedStateAndSizeIsBounded() {
+		CharacterStateCache cache = new CharacterStateCache(new SimpleMeterRegistry(), 2);
+		cache.get(1L, () -> CharacterDto.builder().userId(1L).level(1).experience(0L).build());
+		cache.putAfterCommit(CharacterDto.builder().userId(1L).level(2).experience(0L).build());
+
+		assertThat(cache.get(1L, () -> CharacterDto.builder().userId(1L).level(1).build()).getLevel()).isEqualTo(2);
+
+		cache.get(2L, () -> CharacterDto.builder().userId(2L).build());
+		cache.get(3L, () -> CharacterDto.builder().userId(3L).build());
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	void lateCommitOfOlderStateIsIgnored() {
+		CharacterStateCache cache = new CharacterStateCache(new SimpleMeterRegistry(), 10);
+		cache.putAfterCommit(CharacterDto.builder().userId(1L).level(3).experience(10L).build());
+		// 먼저 커밋된 트랜잭션의 콜백이 늦게 실행
+		cache.putAfterCommit(CharacterDto.builder().userId(1L).level(2).experience(150L).build());
+
+		CharacterDto cached = cache.get(1L, () -> CharacterDto.builder().userId(1L).level(1).experience(0L).build());
+		assertThat(cached.getLevel()).isEqualTo(3);
+		assertThat(cached.getExperience()).isEqualTo(10L);
+	}
+
+	@Test
+	void sameExperienceWithDifferentStateInvalidates() {
+		CharacterStateCache cache = new CharacterStateCache(new SimpleMeterRegistry(), 10);
+		cache.putAfterCommit(CharacterDto.builder().userId(1L).level(2).experience(10L)
+				.equippedRose(true).build());
+		cache.putAfterCommit(CharacterDto.builder().userId(1L).level(2).experience(10L)
+				.equippedRose(false).build());
+
+		// 선후를 알 수 없으므로 다음 조회는 DB에서 다시 로드
+		AtomicInteger loads = new AtomicInteger();
+		cache.get(1L, () -> {
+			loads.incrementAndGet();
+			return CharacterDto.builder().userId(1L).level(2).experience(10L).equippedRose(false).build();
+		});
+		assertThat(loads.get()).isEqualTo(1);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package com.backend.kdt.character.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.kdt.auth.entity.Age;
+import com.backend.kdt.auth.entity.Gender;
+import com.backend.kdt.auth.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = "activity.rollover.chunk-size=2")
+@Import({DailyCounterRolloverJob.class, DailyCounterRolloverJobTest.RolloverTestConfig.class})
+class DailyCounterRolloverJobTest {
+
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+	private static final LocalDate TODAY = LocalDate.of(2025, 3, 2);
+
+	@TestConfiguration
+	static class RolloverTestConfig {
+		// 서울 기준 자정 직후로 고정
+		@Bean
+		Clock clock() {
+			return Clock.fixed(ZonedDateTime.of(TODAY.atStartOfDay(), SEOUL).plusSeconds(1).toInstant(), SEOUL);
+		}
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@Autowired
+	private DailyCounterRolloverJob rolloverJob;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void resetsOnlyCountsFromPreviousDaysAcrossChunks() {
+		Long yesterdayUser = persistUser("yesterday", TODAY.minusDays(1));
+		Long todayUser = persistUser("today", TODAY);
+		for (int i = 0; i < 3; i++) {
+			persistUser("old-" + i, TODAY.minusDays(7));
+		}
+		entityManager.flush();
+
+		long updated = rolloverJob.rollover();
+		entityManager.clear();
+
+		assertThat(updated).isEqualTo(4);
+		assertThat(entityManager.find(User.class, yesterdayUser).getDailyPetCount()).isZero();
+		assertThat(entityManager.find(User.class, yesterdayUser).getDailyGameCount()).isZero();
+		assertThat(entityManager.find(User.class, todayUser).getDailyPetCount()).isEqualTo(2);
+		assertThat(meterRegistry.get("activity.rollover.rows").counter().count()).isEqualTo(4.0);
+	}
+
+	private Long persistUser(String userName, LocalDate lastActivityDate) {
+		User user = entityManager.persist(User.builder()
+				.userName(userName)
+				.password("password")
+				.gender(Gender.MALE)
+				.age(Age.FIFTY_PLUS)
+				.dailyPetCount(2)
+				.lastPetDate(lastActivityDate)
+				.dailyGameCount(1)
+				.lastGameDate(lastActivityDate)
+				.build());
+		return user.getId();
+	}
+}
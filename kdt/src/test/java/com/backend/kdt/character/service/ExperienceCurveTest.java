@@ -0,0 +1,44 @@
+package com.backend.kdt.character.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ExperienceCurveTest {
+
+	@Test
+	void levelBoundariesFollowCumulativeCurve() {
+		// 레벨 L 도달 누적 경험치 = 50 * L * (L - 1): 1→0, 2→100, 3→300, 4→600
+		assertThat(ExperienceCurve.resolve(0)).isEqualTo(new ExperienceCurve.Progress(1, 0, 100));
+		assertThat(ExperienceCurve.resolve(99)).isEqualTo(new ExperienceCurve.Progress(1, 99, 100));
+		assertThat(ExperienceCurve.resolve(100)).isEqualTo(new ExperienceCurve.Progress(2, 0, 200));
+		assertThat(ExperienceCurve.resolve(299)).isEqualTo(new ExperienceCurve.Progress(2, 199, 200));
+		assertThat(ExperienceCurve.resolve(300)).isEqualTo(new ExperienceCurve.Progress(3, 0, 300));
+		assertThat(ExperienceCurve.resolve(600)).isEqualTo(new ExperienceCurve.Progress(4, 0, 400));
+	}
+
+	@Test
+	void totalExperienceRoundTripsThroughResolve() {
+		for (int level = 1; level <= 50; level++) {
+			for (long experience : new long[]{0, 1, ExperienceCurve.maxExperience(level) - 1}) {
+				ExperienceCurve.Progress progress =
+						ExperienceCurve.resolve(ExperienceCurve.totalExperience(level, experience));
+
+				assertThat(progress.level()).isEqualTo(level);
+				assertThat(progress.experience()).isEqualTo(experience);
+				assertThat(progress.maxExperience()).isEqualTo(ExperienceCurve.maxExperience(level));
+			}
+		}
+	}
+
+	@Test
+	void experienceBeyondMaxLevelAccumulatesAtMaxLevel() {
+		long maxLevelTotal = ExperienceCurve.totalExperience(ExperienceCurve.MAX_LEVEL, 0);
+
+		assertThat(ExperienceCurve.resolve(maxLevelTotal - 1).level()).isEqualTo(ExperienceCurve.MAX_LEVEL - 1);
+		assertThat(ExperienceCurve.resolve(maxLevelTotal))
+				.isEqualTo(new ExperienceCurve.Progress(ExperienceCurve.MAX_LEVEL, 0,
+						ExperienceCurve.maxExperience(ExperienceCurve.MAX_LEVEL)));
+		assertThat(ExperienceCurve.resolve(maxLevelTotal + 5_000_000L).experience()).isEqualTo(5_000_000L);
+	}
+}
@@ -0,0 +1,100 @@
+package com.backend.kdt.character.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.kdt.auth.entity.Age;
+import com.backend.kdt.auth.entity.Gender;
+import com.backend.kdt.auth.entity.User;
+import com.backend.kdt.character.dto.BulkExperienceGrantResponseDto;
+import com.backend.kdt.character.entity.Character;
+import com.backend.kdt.character.entity.CharacterType;
+import com.backend.kdt.character.repository.CharacterRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+// 청크 크기 2: 같은 레벨/레벨업 행이 여러 청크에 섞이도록
+@DataJpaTest(properties = "character.experience-grant.chunk-size=2")
+@Import({ExperienceGrantService.class, CharacterActivityEngine.class, CharacterStateCache.class,
+		ExperienceGrantServiceTest.MeterConfig.class})
+class ExperienceGrantServiceTest {
+
+	@TestConfiguration
+	static class MeterConfig {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@Autowired
+	private ExperienceGrantService experienceGrantService;
+
+	@Autowired
+	private CharacterRepository characterRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void bulkGrantMixesSameLevelAndLevelUpRows() {
+		Long sameLevel = persistUser("same-level", 1, 0L, CharacterType.EGG);
+		Long evolves = persistUser("evolves", 1, 50L, CharacterType.EGG);
+		Long multiLevel = persistUser("multi-level", 2, 150L, CharacterType.DUCK);
+		Long noCharacter = persistUser("no-character", null, null, null);
+		entityManager.flush();
+		entityManager.clear();
+
+		BulkExperienceGrantResponseDto response = experienceGrantService.grantExperience(
+				List.of(sameLevel, evolves, sameLevel, multiLevel, noCharacter), 60);
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(response.getRequestedCount()).isEqualTo(4);
+		assertThat(response.getGrantedCount()).isEqualTo(3);
+		assertThat(response.getLeveledUpUserIds()).containsExactlyInAnyOrder(evolves, multiLevel);
+		assertThat(response.getEvolvedUserIds()).containsExactly(evolves);
+
+		// 0 + 60 < 100: 레벨 유지
+		assertProgress(sameLevel, 1, 60L, 100L, CharacterType.EGG);
+		// 50 + 60 = 110: 레벨 2 도달 + 진화
+		assertProgress(evolves, 2, 10L, 200L, CharacterType.DUCK);
+		// 누적 100 + 150 + 60 = 310: 레벨 3 (누적 300)
+		assertProgress(multiLevel, 3, 10L, 300L, CharacterType.DUCK);
+	}
+
+	private Long persistUser(String userName, Integer level, Long experience, CharacterType type) {
+		User user = entityManager.persist(User.builder()
+				.userName(userName)
+				.password("password")
+				.gender(Gender.FEMALE)
+				.age(Age.TEENS_20S)
+				.build());
+		if (level != null) {
+			entityManager.persist(Character.builder()
+					.user(user)
+					.characterName(type == CharacterType.EGG ? "알" : "토덕이")
+					.characterType(type)
+					.level(level)
+					.experience(experience)
+					.maxExperience(ExperienceCurve.maxExperience(level))
+					.build());
+		}
+		return user.getId();
+	}
+
+	private void assertProgress(Long userId, int level, long experience, long maxExperience, CharacterType type) {
+		Character character = characterRepository.findByUserId(userId).orElseThrow();
+		assertThat(character.getLevel()).isEqualTo(level);
+		assertThat(character.getExperience()).isEqualTo(experience);
+		assertThat(character.getMaxExperience()).isEqualTo(maxExperience);
+		assertThat(character.getCharacterType()).isEqualTo(type);
+	}
+}
@@ -0,0 +1,41 @@
+package com.backend.kdt.character.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class OrderStatisticTreapTest {
+
+	@Test
+	void matchesSortedListUnderRandomInsertAndRemove() {
+		Random random = new Random(42);
+		List<Integer> initial = new ArrayList<>(IntStream.range(0, 1000).map(i -> i * 2).boxed().toList());
+		OrderStatisticTreap<Integer> treap = OrderStatisticTreap.fromSorted(initial, Comparator.naturalOrder());
+		List<Integer> expected = new ArrayList<>(initial);
+
+		for (int i = 0; i < 2000; i++) {
+			int value = random.nextInt(4000);
+			if (expected.contains(value)) {
+				treap.remove(value);
+				expected.remove(Integer.valueOf(value));
+			} else {
+				treap.insert(value);
+				expected.add(value);
+			}
+		}
+		expected.sort(Comparator.naturalOrder());
+
+		assertThat(treap.size()).isEqualTo(expected.size());
+		assertThat(treap.range(0, expected.size())).isEqualTo(expected);
+		assertThat(treap.range(10, 25)).isEqualTo(expected.subList(10, 25));
+		for (int i = 0; i < expected.size(); i += 37) {
+			assertThat(treap.indexOf(expected.get(i))).isEqualTo(i);
+		}
+		assertThat(treap.indexOf(-1)).isEqualTo(-1);
+	}
+}
@@ -0,0 +1,138 @@
+package com.backend.kdt.dashboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.backend.kdt.auth.entity.Age;
+import com.backend.kdt.auth.entity.Gender;
+import com.backend.kdt.auth.entity.User;
+import com.backend.kdt.auth.repository.UserRepository;
+import com.backend.kdt.character.entity.Character;
+import com.backend.kdt.character.entity.CharacterType;
+import com.backend.kdt.character.entity.Equipment;
+import com.backend.kdt.character.repository.CharacterRepository;
+import com.backend.kdt.character.service.CharacterActivityEngine;
+import com.backend.kdt.character.service.CharacterService;
+import com.backend.kdt.character.service.CharacterStateCache;
+import com.backend.kdt.character.service.DailyActivityLimiter;
+import com.backend.kdt.character.service.DefaultCharacterProvisioner;
+import com.backend.kdt.dashboard.dto.DashboardDto;
+import com.backend.kdt.inventory.entity.UserItem;
+import com.backend.kdt.inventory.repository.UserItemRepository;
+import com.backend.kdt.inventory.service.InventoryService;
+import com.backend.kdt.inventory.service.UserItemStore;
+import com.backend.kdt.shop.entity.ShopItemType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Clock;
+import java.time.ZoneId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 캐릭터가 없으면 독립 트랜잭션에서 기본 캐릭터를 만들므로 사용자 행이 커밋되어 있어야 함 → 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({DashboardService.class, InventoryService.class, CharacterService.class, CharacterActivityEngine.class,
+		DailyActivityLimiter.class, DefaultCharacterProvisioner.class, CharacterStateCache.class,
+		UserItemStore.class, DashboardServiceTest.ClockConfig.class})
+class DashboardServiceTest {
+
+	@TestConfiguration
+	static class ClockConfig {
+		@Bean
+		Clock clock() {
+			return Clock.system(ZoneId.of("Asia/Seoul"));
+		}
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@Autowired
+	private DashboardService dashboardService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CharacterRepository characterRepository;
+
+	@Autowired
+	private UserItemRepository userItemRepository;
+
+	@AfterEach
+	void tearDown() {
+		characterRepository.deleteAll();
+		userItemRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	void userWithoutItemsOrCharacterGetsZeroCountsAndDefaultCharacter() {
+		Long userId = persistUser("empty-user").getId();
+
+		DashboardDto dashboard = dashboardService.getDashboard(userId);
+
+		assertThat(dashboard.getUserId()).isEqualTo(userId);
+		assertThat(dashboard.getPoint()).isZero();
+		assertThat(dashboard.getRemainingDailyPets()).isEqualTo(3);
+		assertThat(dashboard.getRemainingDailyFeeds()).isEqualTo(3);
+		assertThat(dashboard.getRemainingDailyGames()).isEqualTo(3);
+		assertThat(dashboard.isAllActivitiesCompleted()).isFalse();
+		assertThat(dashboard.getCharacter().getCharacterType()).isEqualTo(CharacterType.EGG);
+		assertThat(dashboard.getInventory().getTotalItemCount()).isZero();
+		assertThat(dashboard.getInventory().getPersimmonCount()).isZero();
+		assertThat(dashboard.getInventory().getTotalEquippedCosmeticCount()).isZero();
+		assertThat(dashboard.getInventory().isHasRose()).isFalse();
+	}
+
+	@Test
+	void itemRowsAreFoldedIntoCountsWithCharacterFromSameQuery() {
+		User user = persistUser("item-user");
+		characterRepository.save(Character.builder()
+				.user(user)
+				.characterName("토덕이")
+				.characterType(CharacterType.DUCK)
+				.level(3)
+				.experience(40L)
+				.equippedItems(Equipment.bit(ShopItemType.ROSE))
+				.build());
+		userItemRepository.save(UserItem.builder().userId(user.getId()).itemType(ShopItemType.PERSIMMON).count(2).build());
+		userItemRepository.save(UserItem.builder().userId(user.getId()).itemType(ShopItemType.ROSE).count(1).build());
+
+		DashboardDto dashboard = dashboardService.getDashboard(user.getId());
+
+		assertThat(dashboard.getCharacter().getLevel()).isEqualTo(3);
+		assertThat(dashboard.getCharacter().getExperience()).isEqualTo(40L);
+		assertThat(dashboard.getCharacter().getEquippedRose()).isTrue();
+		assertThat(dashboard.getInventory().getPersimmonCount()).isEqualTo(2);
+		assertThat(dashboard.getInventory().getTotalOwnedCosmeticCount()).isEqualTo(1);
+		assertThat(dashboard.getInventory().getTotalEquippedCosmeticCount()).isEqualTo(1);
+		assertThat(dashboard.getInventory().getTotalItemCount()).isEqualTo(3);
+	}
+
+	@Test
+	void unknownUserIsNotFound() {
+		assertThatThrownBy(() -> dashboardService.getDashboard(Long.MAX_VALUE))
+				.isInstanceOf(EntityNotFoundException.class);
+	}
+
+	private User persistUser(String userName) {
+		return userRepository.save(User.builder()
+				.userName(userName)
+				.password("password")
+				.gender(Gender.MALE)
+				.age(Age.TEENS_20S)
+				.build());
+	}
+}
@@ -0,0 +1,79 @@
+package com.backend.kdt.inventory.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.kdt.inventory.repository.UserItemRepository;
+import com.backend.kdt.shop.entity.ShopItemType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 동시 지급을 실제 커밋으로 검증하므로 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(UserItemStore.class)
+class UserItemStoreTest {
+
+	private static final int USERS = 20;
+	private static final int GRANTS_PER_USER = 8;
+
+	@Autowired
+	private UserItemStore userItemStore;
+
+	@Autowired
+	private UserItemRepository userItemRepository;
+
+	@AfterEach
+	void tearDown() {
+		userItemRepository.deleteAll();
+	}
+
+	@Test
+	void concurrentFirstGrantsAreAllCounted() throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(GRANTS_PER_USER);
+		try {
+			List<Future<?>> results = new ArrayList<>();
+			for (long userId = 1; userId <= USERS; userId++) {
+				long target = userId;
+				for (int i = 0; i < GRANTS_PER_USER; i++) {
+					results.add(executor.submit(() -> {
+						start.await();
+						userItemStore.add(target, ShopItemType.PERSIMMON, 2);
+						return null;
+					}));
+				}
+			}
+			start.countDown();
+			for (Future<?> result : results) {
+				result.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		for (long userId = 1; userId <= USERS; userId++) {
+			assertThat(userItemStore.count(userId, ShopItemType.PERSIMMON)).isEqualTo(GRANTS_PER_USER * 2);
+		}
+	}
+
+	@Test
+	void grantAddsToExistingRow() {
+		userItemStore.add(1L, ShopItemType.ROSE, 1);
+		userItemStore.add(1L, ShopItemType.ROSE, 3);
+
+		assertThat(userItemStore.count(1L, ShopItemType.ROSE)).isEqualTo(4);
+		assertThat(userItemRepository.count()).isEqualTo(1);
+	}
+}
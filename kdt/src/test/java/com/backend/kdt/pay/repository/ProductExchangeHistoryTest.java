@@ -0,0 +1,86 @@
+package com.backend.kdt.pay.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.kdt.auth.entity.Age;
+import com.backend.kdt.auth.entity.Gender;
+import com.backend.kdt.auth.entity.User;
+import com.backend.kdt.pay.entity.Product;
+import com.backend.kdt.pay.entity.ProductExchange;
+import com.backend.kdt.pay.entity.TransactionType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+@DataJpaTest
+class ProductExchangeHistoryTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+	@Autowired
+	private ProductExchangeRepository exchangeRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private Long userId;
+
+	@BeforeEach
+	void setUp() {
+		User user = entityManager.persist(User.builder()
+				.userName("history-user")
+				.password("password")
+				.gender(Gender.FEMALE)
+				.age(Age.TEENS_20S)
+				.build());
+		Product donation = entityManager.persist(Product.builder()
+				.name("김해 유기동물 보호센터 후원")
+				.transactionType(TransactionType.DONATION)
+				.pointCost(0)
+				.stock(999)
+				.build());
+		// 같은 시각 항목이 페이지 경계에 걸치도록 두 개씩 같은 시각으로 저장
+		for (int i = 0; i < 5; i++) {
+			entityManager.persist(ProductExchange.builder()
+					.user(user)
+					.product(donation)
+					.quantity(1)
+					.totalCost(100 * (i + 1))
+					.transactionType(TransactionType.DONATION)
+					.exchangedAt(BASE.plusMinutes(i / 2))
+					.accepted(true)
+					.build());
+		}
+		entityManager.flush();
+		entityManager.clear();
+		userId = user.getId();
+	}
+
+	@Test
+	void pagesThroughHistoryNewestFirstWithoutGapsOrDuplicates() {
+		List<ExchangeHistoryView> all = new ArrayList<>();
+		List<ExchangeHistoryView> page = exchangeRepository.findHistoryFirstPage(
+				userId, TransactionType.DONATION, Limit.of(2));
+		while (!page.isEmpty()) {
+			all.addAll(page);
+			ExchangeHistoryView last = page.get(page.size() - 1);
+			page = exchangeRepository.findHistoryPageAfter(userId, TransactionType.DONATION,
+					last.getExchangedAt(), last.getExchangeId(), Limit.of(2));
+		}
+
+		assertThat(all).hasSize(5);
+		assertThat(all).extracting(ExchangeHistoryView::getTotalCost).containsExactly(500, 400, 300, 200, 100);
+		assertThat(all).extracting(ExchangeHistoryView::getName).containsOnly("김해 유기동물 보호센터 후원");
+	}
+
+	@Test
+	void filtersByTransactionType() {
+		assertThat(exchangeRepository.findHistoryFirstPage(userId, TransactionType.PURCHASE, Limit.of(10))).isEmpty();
+	}
+}
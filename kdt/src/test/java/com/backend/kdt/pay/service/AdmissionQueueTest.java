@@ -0,0 +1,63 @@
+package com.backend.kdt.pay.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class AdmissionQueueTest {
+
+	@Test
+	void admitsInJoinOrderAtTheConfiguredRate() {
+		AdmissionQueue queue = new AdmissionQueue(4, 2);
+		assertThat(queue.enqueue(10L).position()).isEqualTo(1);
+		assertThat(queue.enqueue(11L).position()).isEqualTo(2);
+		assertThat(queue.enqueue(12L).position()).isEqualTo(3);
+		assertThat(queue.enqueue(11L).position()).isEqualTo(2);
+
+		assertThat(queue.admit(2)).containsExactly(10L, 11L);
+		assertThat(queue.positionOf(12L)).isEqualTo(1);
+		assertThat(queue.positionOf(10L)).isZero();
+		assertThat(queue.peek(10)).containsExactly(12L);
+	}
+
+	@Test
+	void rejectsWhenFullAndWrapsAround() {
+		AdmissionQueue queue = new AdmissionQueue(2, 1);
+		queue.enqueue(1L);
+		queue.enqueue(2L);
+		assertThat(queue.enqueue(3L)).isNull();
+
+		queue.admit(1);
+		assertThat(queue.enqueue(3L).position()).isEqualTo(2);
+		assertThat(queue.peek(10)).containsExactly(2L, 3L);
+	}
+
+	@Test
+	void immediateAdmissionOnlyWhenEmptyAndBudgetLeft() {
+		AdmissionQueue queue = new AdmissionQueue(4, 1);
+		assertThat(queue.tryAdmitImmediately()).isTrue();
+		assertThat(queue.tryAdmitImmediately()).isFalse();
+
+		queue.admit(1);
+		queue.enqueue(5L);
+		assertThat(queue.tryAdmitImmediately()).isFalse();
+	}
+
+	@Test
+	void spotCarriesSequenceAndAdmittedHead() {
+		AdmissionQueue queue = new AdmissionQueue(8, 2);
+		AdmissionQueue.Spot first = queue.enqueue(1L);
+		queue.enqueue(2L);
+		AdmissionQueue.Spot third = queue.enqueue(3L);
+		assertThat(third.position()).isEqualTo(3);
+
+		queue.admit(2);
+
+		// 클라이언트는 처음 받은 일련번호와 진행 상황의 입장 일련번호만으로 순번 계산
+		assertThat(queue.head()).isEqualTo(first.sequence() + 2);
+		assertThat(third.sequence() - queue.head() + 1).isEqualTo(1);
+		assertThat(queue.spotOf(3L).position()).isEqualTo(1);
+		assertThat(queue.spotOf(1L)).isNull();
+		assertThat(queue.peek(0)).isEmpty();
+	}
+}
@@ -0,0 +1,83 @@
+package com.backend.kdt.pay.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.kdt.pay.dto.ProductDto;
+import com.backend.kdt.pay.entity.Product;
+import com.backend.kdt.pay.entity.TransactionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({ProductCatalogCache.class, ProductCatalogCacheTest.ClockConfig.class})
+class ProductCatalogCacheTest {
+
+	@TestConfiguration
+	static class ClockConfig {
+		@Bean
+		Clock clock() {
+			return Clock.system(ZoneId.of("Asia/Seoul"));
+		}
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@Autowired
+	private ProductCatalogCache catalogCache;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private Product product;
+
+	@BeforeEach
+	void setUp() {
+		product = entityManager.persistFlushFind(Product.builder()
+				.name("김해 대저토마토 선물세트")
+				.transactionType(TransactionType.PURCHASE)
+				.pointCost(15000)
+				.stock(30)
+				.build());
+	}
+
+	@Test
+	void servesRepeatReadsFromCacheWithStableVersion() {
+		CatalogSnapshot<List<ProductDto>> first = catalogCache.products(TransactionType.PURCHASE);
+		CatalogSnapshot<List<ProductDto>> second = catalogCache.products(TransactionType.PURCHASE);
+
+		assertThat(second).isSameAs(first);
+		assertThat(second.etag()).isEqualTo(first.etag());
+		assertThat(catalogCache.product(product.getId())).isSameAs(catalogCache.product(product.getId()));
+	}
+
+	@Test
+	void productChangeInvalidatesListAndProduct() {
+		CatalogSnapshot<List<ProductDto>> before = catalogCache.products(TransactionType.PURCHASE);
+		CatalogSnapshot<ProductDto> productBefore = catalogCache.product(product.getId());
+
+		product.setStock(29);
+		entityManager.flush();
+		catalogCache.onProductChanged(new ProductChangedEvent(product.getId()));
+
+		CatalogSnapshot<List<ProductDto>> after = catalogCache.products(TransactionType.PURCHASE);
+		CatalogSnapshot<ProductDto> productAfter = catalogCache.product(product.getId());
+		assertThat(after.etag()).isNotEqualTo(before.etag());
+		assertThat(after.value()).extracting(ProductDto::getStock).containsExactly(29);
+		assertThat(productAfter.etag()).isNotEqualTo(productBefore.etag());
+		assertThat(productAfter.value().getStock()).isEqualTo(29);
+	}
+}
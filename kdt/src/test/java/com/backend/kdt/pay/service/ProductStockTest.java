@@ -0,0 +1,78 @@
+package com.backend.kdt.pay.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ProductStockTest {
+
+	@Test
+	void concurrentReservationsNeverOversell() throws Exception {
+		ProductStock stock = new ProductStock(30);
+
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				results.add(executor.submit(() -> stock.tryReserve(1)));
+			}
+			int reserved = 0;
+			for (Future<Boolean> result : results) {
+				if (result.get(5, TimeUnit.SECONDS)) {
+					reserved++;
+				}
+			}
+			assertThat(reserved).isEqualTo(30);
+			assertThat(stock.available()).isZero();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void releaseReturnsQuantityAndCompletionIsApplyOnce() {
+		ProductStock stock = new ProductStock(5);
+		assertThat(stock.tryReserve(3)).isTrue();
+		assertThat(stock.tryReserve(3)).isFalse();
+
+		StockReservation reservation = new StockReservation(stock, 1L, 3);
+		reservation.release();
+		reservation.release();
+		reservation.commit();
+
+		assertThat(stock.available()).isEqualTo(5);
+		assertThat(stock.reserved()).isZero();
+	}
+
+	@Test
+	void resyncExcludesInFlightReservations() {
+		ProductStock stock = new ProductStock(10);
+		assertThat(stock.tryReserve(2)).isTrue();
+
+		stock.resync(4);
+		assertThat(stock.available()).isEqualTo(2);
+
+		stock.release(2);
+		assertThat(stock.available()).isEqualTo(4);
+	}
+
+	@Test
+	void resyncBelowInFlightReservationsIsNotClamped() {
+		ProductStock stock = new ProductStock(5);
+		assertThat(stock.tryReserve(2)).isTrue();
+
+		// 다른 인스턴스가 재고를 모두 소진
+		stock.resync(0);
+		assertThat(stock.available()).isEqualTo(-2);
+		assertThat(stock.tryReserve(1)).isFalse();
+
+		stock.release(2);
+		assertThat(stock.available()).isZero();
+	}
+}
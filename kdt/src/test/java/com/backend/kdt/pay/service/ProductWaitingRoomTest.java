@@ -0,0 +1,120 @@
+package com.backend.kdt.pay.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.backend.kdt.pay.dto.WaitingRoomProgressDto;
+import com.backend.kdt.pay.dto.WaitingTicketDto;
+import com.backend.kdt.pay.entity.TransactionType;
+import com.backend.kdt.pay.repository.ProductRepository;
+import com.backend.kdt.push.service.UserPushService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ProductWaitingRoomTest {
+
+	private static final Long PRODUCT_ID = 1L;
+
+	private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void purchaseWithoutTicketIsAllowedWhileQueueIsIdle() {
+		ProductWaitingRoom waitingRoom = waitingRoom(2);
+
+		// 대기열을 쓴 적 없는 상품
+		assertThatCode(() -> waitingRoom.requireTicket(PRODUCT_ID, 100L)).doesNotThrowAnyException();
+
+		// 대기자가 없으면 이번 틱 입장 한도 안에서 통과
+		waitingRoom.join(PRODUCT_ID, 1L);
+		assertThatCode(() -> waitingRoom.requireTicket(PRODUCT_ID, 100L)).doesNotThrowAnyException();
+	}
+
+	@Test
+	void ticketIsRequiredWhileQueueIsActive() {
+		ProductWaitingRoom waitingRoom = waitingRoom(1);
+		assertThat(waitingRoom.join(PRODUCT_ID, 1L).isAdmitted()).isTrue();
+		assertThat(waitingRoom.join(PRODUCT_ID, 2L).isAdmitted()).isFalse();
+
+		// 대기자가 있으면 입장권 없는 구매는 거절, 입장권이 있으면 통과
+		assertThatThrownBy(() -> waitingRoom.requireTicket(PRODUCT_ID, 100L))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatCode(() -> waitingRoom.requireTicket(PRODUCT_ID, 1L)).doesNotThrowAnyException();
+	}
+
+	@Test
+	void tickPushesProgressOnceAndOnlyAdmittedOrNextUsersIndividually() {
+		RecordingPushService pushService = new RecordingPushService();
+		ProductWaitingRoom waitingRoom = waitingRoom(2, pushService);
+		waitingRoom.join(PRODUCT_ID, 1L);
+		waitingRoom.join(PRODUCT_ID, 2L);
+		for (long userId = 3; userId <= 10; userId++) {
+			assertThat(waitingRoom.join(PRODUCT_ID, userId).isAdmitted()).isFalse();
+		}
+
+		waitingRoom.tick();
+
+		// 대기자 8명 전체가 아니라 입장 2명 + 다음 입장 대상 2명만 개별 알림
+		assertThat(pushService.updates).extracting(WaitingTicketDto::getUserId).containsExactly(3L, 4L, 5L, 6L);
+		assertThat(pushService.updates.subList(0, 2)).allMatch(WaitingTicketDto::isAdmitted);
+		assertThat(pushService.progress).singleElement().satisfies(progress -> {
+			assertThat(progress.getWaitingCount()).isEqualTo(6);
+			assertThat(progress.getAdmitsPerTick()).isEqualTo(2);
+		});
+
+		// 대기 중인 사용자는 받은 일련번호와 진행 상황으로 같은 순번을 계산
+		WaitingTicketDto last = waitingRoom.status(PRODUCT_ID, 10L);
+		assertThat(last.getSequence() - pushService.progress.get(0).getAdmittedSequence() + 1)
+				.isEqualTo(last.getPosition())
+				.isEqualTo(6);
+	}
+
+	private ProductWaitingRoom waitingRoom(int admitsPerSecond) {
+		return waitingRoom(admitsPerSecond, null);
+	}
+
+	private ProductWaitingRoom waitingRoom(int admitsPerSecond, UserPushService pushService) {
+		ProductRepository productRepository = productRepository();
+		return new ProductWaitingRoom(productRepository,
+				new StockReservationEngine(productRepository, meterRegistry),
+				pushService, clock, meterRegistry, true, 100, admitsPerSecond, 1000, 120);
+	}
+
+	private class RecordingPushService extends UserPushService {
+
+		private final List<WaitingTicketDto> updates = new ArrayList<>();
+		private final List<WaitingRoomProgressDto> progress = new ArrayList<>();
+
+		RecordingPushService() {
+			super(null, null, null, clock, meterRegistry);
+		}
+
+		@Override
+		public void sendWaitingRoomUpdate(Long userId, WaitingTicketDto ticket) {
+			updates.add(ticket);
+		}
+
+		@Override
+		public void sendWaitingRoomProgress(WaitingRoomProgressDto progress) {
+			this.progress.add(progress);
+		}
+	}
+
+	private static ProductRepository productRepository() {
+		return (ProductRepository) Proxy.newProxyInstance(ProductRepository.class.getClassLoader(),
+				new Class<?>[]{ProductRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+					case "findTransactionTypeById" -> Optional.of(TransactionType.PURCHASE);
+					case "findStockById" -> Optional.of(100);
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+}
@@ -0,0 +1,97 @@
+package com.backend.kdt.push.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.kdt.character.dto.CharacterDto;
+import com.backend.kdt.character.service.CharacterUpdateType;
+import com.backend.kdt.character.service.CharacterUpdatedEvent;
+import com.backend.kdt.pay.dto.WaitingTicketDto;
+import com.backend.kdt.push.dto.CharacterPushMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+
+class UserPushServiceTest {
+
+	private final List<Message<?>> sent = new ArrayList<>();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void characterUpdateGoesOnlyToTheOwner() {
+		UserPushService pushService = pushService(Set.of("1", "2"));
+
+		pushService.onCharacterUpdated(characterUpdated(1L));
+
+		assertThat(sent).hasSize(1);
+		assertThat(destinationOf(sent.get(0))).isEqualTo("/user/1" + UserPushService.CHARACTER_QUEUE);
+		assertThat(((CharacterPushMessage) sent.get(0).getPayload()).getCharacter().getUserId()).isEqualTo(1L);
+		assertThat(meterRegistry.counter("push.user.sent").count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void disconnectedUsersAreSkipped() {
+		UserPushService pushService = pushService(Set.of("2"));
+
+		pushService.onCharacterUpdated(characterUpdated(1L));
+		pushService.sendWaitingRoomUpdate(1L, WaitingTicketDto.builder().productId(7L).userId(1L).position(3).build());
+
+		assertThat(sent).isEmpty();
+		assertThat(meterRegistry.counter("push.user.sent").count()).isZero();
+	}
+
+	@Test
+	void waitingRoomUpdateGoesToTheWaitingUser() {
+		UserPushService pushService = pushService(Set.of("1", "2"));
+
+		pushService.sendWaitingRoomUpdate(2L, WaitingTicketDto.builder().productId(7L).userId(2L).position(1).build());
+
+		assertThat(sent).hasSize(1);
+		assertThat(destinationOf(sent.get(0))).isEqualTo("/user/2" + UserPushService.WAITING_ROOM_QUEUE);
+	}
+
+	private UserPushService pushService(Set<String> connectedUserNames) {
+		SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate((message, timeout) -> sent.add(message));
+		return new UserPushService(messagingTemplate, registry(connectedUserNames), null,
+				Clock.system(ZoneId.of("Asia/Seoul")), meterRegistry);
+	}
+
+	private static CharacterUpdatedEvent characterUpdated(Long userId) {
+		CharacterDto character = CharacterDto.builder().userId(userId).level(2).experience(10L).build();
+		return new CharacterUpdatedEvent(character, CharacterUpdateType.EQUIPMENT_CHANGED, 0, 0, null, null);
+	}
+
+	private static String destinationOf(Message<?> message) {
+		return SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+	}
+
+	// 접속 중인 사용자 이름만 등록된 레지스트리
+	private static SimpUserRegistry registry(Set<String> connectedUserNames) {
+		return (SimpUserRegistry) Proxy.newProxyInstance(SimpUserRegistry.class.getClassLoader(),
+				new Class<?>[]{SimpUserRegistry.class}, (proxy, method, args) -> {
+					if (method.getName().equals("getUser")) {
+						return connectedUserNames.contains((String) args[0]) ? user((String) args[0]) : null;
+					}
+					throw new UnsupportedOperationException(method.getName());
+				});
+	}
+
+	private static SimpUser user(String name) {
+		return (SimpUser) Proxy.newProxyInstance(SimpUser.class.getClassLoader(),
+				new Class<?>[]{SimpUser.class}, (proxy, method, args) -> {
+					if (method.getName().equals("getName")) {
+						return name;
+					}
+					throw new UnsupportedOperationException(method.getName());
+				});
+	}
+}
@@ -0,0 +1,158 @@
+package com.backend.kdt.seed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.kdt.auth.entity.Age;
+import com.backend.kdt.auth.entity.Gender;
+import com.backend.kdt.auth.entity.User;
+import com.backend.kdt.auth.repository.UserRepository;
+import com.backend.kdt.pay.entity.Product;
+import com.backend.kdt.pay.entity.TransactionType;
+import com.backend.kdt.pay.repository.ProductRepository;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 청크별로 실제 커밋하므로 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyntheticDataGeneratorTest {
+
+	private static final int USERS = 120;
+	private static final int ALLOCATION_SIZE = 50;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	// 생성 도중 다른 요청이 받아 간 users_seq 값 (pooled 블록의 끝)
+	private final List<Long> concurrentBlocks = new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		productRepository.save(Product.builder()
+				.name("감귤").transactionType(TransactionType.PURCHASE).pointCost(300).stock(10).build());
+		productRepository.save(Product.builder()
+				.name("기부").transactionType(TransactionType.DONATION).pointCost(0).stock(10).build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM product_exchanges");
+		jdbcTemplate.update("DELETE FROM characters");
+		jdbcTemplate.update("DELETE FROM user_items");
+		jdbcTemplate.update("DELETE FROM users");
+		jdbcTemplate.update("DELETE FROM products");
+	}
+
+	@Test
+	void seededIdsNeverOverlapBlocksHandedOutWhileWriting() {
+		// 가동 중인 애플리케이션이 이미 블록을 하나 쓰고 있음
+		Long liveUserId = saveUser("live-before").getId();
+
+		generator(new BlockGrabbingJdbcTemplate(dataSource)).generate();
+
+		List<Long> seededIds = jdbcTemplate.queryForList(
+				"SELECT user_id FROM users WHERE user_name LIKE 'seed\\_%' ORDER BY user_id", Long.class);
+		assertThat(seededIds).hasSize(USERS);
+		assertThat(concurrentBlocks).isNotEmpty();
+		long first = seededIds.get(0);
+		long last = seededIds.get(seededIds.size() - 1);
+		assertThat(last - first + 1).isEqualTo(USERS);
+		for (long blockEnd : concurrentBlocks) {
+			// pooled 최적화기는 받은 값 v에 대해 (v - allocationSize, v]를 사용
+			assertThat(blockEnd < first || blockEnd - ALLOCATION_SIZE >= last)
+					.as("block ending at %d overlaps seeded ids [%d, %d]", blockEnd, first, last)
+					.isTrue();
+		}
+		assertThat(liveUserId).isNotBetween(first, last);
+
+		// 생성 후 JPA로 저장해도 ID 충돌 없음
+		assertThat(saveUser("live-after").getId()).isNotBetween(first, last);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM characters", Long.class)).isEqualTo(USERS);
+	}
+
+	@Test
+	void sameSeedProducesSameData() {
+		generator(jdbcTemplate).generate();
+		List<String> first = snapshotOfGeneratedData();
+		tearDown();
+		setUp();
+
+		generator(jdbcTemplate).generate();
+
+		assertThat(snapshotOfGeneratedData()).isEqualTo(first);
+	}
+
+	@Test
+	void skipsWhenAlreadyGenerated() {
+		generator(jdbcTemplate).generate();
+		generator(jdbcTemplate).generate();
+
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class)).isEqualTo(USERS);
+	}
+
+	private SyntheticDataGenerator generator(JdbcTemplate template) {
+		return new SyntheticDataGenerator(template, transactionTemplate, new BCryptPasswordEncoder(4),
+				USERS, 50, 2, 7L, 2, 3, "2025-01-01", 30);
+	}
+
+	// ID와 무관한 내용 비교 (ID 구간은 실행마다 다름)
+	private List<String> snapshotOfGeneratedData() {
+		return jdbcTemplate.queryForList("""
+				SELECT u.user_name || ':' || u.gender || ':' || u.age || ':' || u.point || ':'
+					|| c.level || ':' || c.experience || ':'
+					|| (SELECT COUNT(*) FROM product_exchanges e WHERE e.user_id = u.user_id)
+				FROM users u JOIN characters c ON c.user_id = u.user_id
+				ORDER BY u.user_name
+				""", String.class);
+	}
+
+	private User saveUser(String userName) {
+		return userRepository.save(User.builder()
+				.userName(userName)
+				.password("password")
+				.gender(Gender.FEMALE)
+				.age(Age.FIFTY_PLUS)
+				.build());
+	}
+
+	/**
+	 * 사용자 청크를 쓰기 직전마다 다른 노드가 users_seq에서 새 블록을 받아 가는 상황을 재현
+	 */
+	private class BlockGrabbingJdbcTemplate extends JdbcTemplate {
+
+		BlockGrabbingJdbcTemplate(DataSource dataSource) {
+			super(dataSource);
+		}
+
+		@Override
+		public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+			if (sql.contains("INSERT INTO users")) {
+				concurrentBlocks.add(queryForObject("SELECT NEXT VALUE FOR users_seq", Long.class));
+			}
+			return super.batchUpdate(sql, batchArgs);
+		}
+	}
+}
@@ -0,0 +1,195 @@
+package com.backend.kdt.wallet.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backend.kdt.auth.entity.Age;
+import com.backend.kdt.auth.entity.Gender;
+import com.backend.kdt.auth.entity.User;
+import com.backend.kdt.auth.repository.UserRepository;
+import com.backend.kdt.wallet.entity.PointLedgerEntry;
+import com.backend.kdt.wallet.entity.PointTransactionType;
+import com.backend.kdt.wallet.repository.PointBalanceSnapshotRepository;
+import com.backend.kdt.wallet.repository.PointLedgerRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 커밋 순서를 직접 조절하므로 테스트 트랜잭션 없이 실행
+@DataJpaTest(properties = "wallet.snapshot.settle-seconds=60")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({WalletService.class, PointSnapshotJob.class, PointSnapshotJobTest.ClockConfig.class})
+class PointSnapshotJobTest {
+
+	private static final Instant START = Instant.parse("2026-03-02T00:00:00Z");
+
+	@TestConfiguration
+	static class ClockConfig {
+		@Bean
+		MutableClock clock() {
+			return new MutableClock(START, ZoneId.of("Asia/Seoul"));
+		}
+	}
+
+	@Autowired
+	private WalletService walletService;
+
+	@Autowired
+	private PointSnapshotJob snapshotJob;
+
+	@Autowired
+	private MutableClock clock;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PointLedgerRepository ledgerRepository;
+
+	@Autowired
+	private PointBalanceSnapshotRepository snapshotRepository;
+
+	@AfterEach
+	void tearDown() {
+		clock.set(START);
+		snapshotRepository.deleteAll();
+		ledgerRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	void lowerIdCommittedAfterSnapshotIsNotSkipped() throws Exception {
+		Long slowUser = saveUser("slow-writer");
+		Long fastUser = saveUser("fast-writer");
+
+		CountDownLatch written = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			// 작은 ID를 먼저 할당받은 항목이 커밋되지 않은 채로 남아 있음
+			clock.set(START.plusSeconds(100));
+			Future<?> slow = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+				walletService.credit(slowUser, 300, PointTransactionType.CHARGE, "slow");
+				written.countDown();
+				await(release);
+			}));
+			assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+
+			// 더 큰 ID 항목이 더 이른 시각에 생성되어 먼저 커밋 (다른 인스턴스의 시퀀스 블록)
+			clock.set(START);
+			walletService.credit(fastUser, 200, PointTransactionType.CHARGE, "fast");
+
+			clock.set(START.plusSeconds(30));
+			assertThat(snapshotJob.snapshot()).isZero();     // 아직 안전 지연 안
+
+			clock.set(START.plusSeconds(150));
+			assertThat(snapshotJob.snapshot()).isEqualTo(1); // 커밋된 큰 ID 항목만 반영
+
+			release.countDown();
+			slow.get(10, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		List<PointLedgerEntry> entries = ledgerRepository.findAll();
+		entries.sort(Comparator.comparing(PointLedgerEntry::getId));
+		assertThat(entries).extracting(PointLedgerEntry::getUserId).containsExactly(slowUser, fastUser);
+
+		// 늦게 커밋된 작은 ID 항목도 다음 스냅샷에 반영됨 (최대 ID 워터마크였다면 영영 누락)
+		clock.set(START.plusSeconds(300));
+		assertThat(snapshotJob.snapshot()).isEqualTo(1);
+		assertThat(snapshotRepository.findById(slowUser)).get()
+				.extracting(snapshot -> snapshot.getBalance()).isEqualTo(300L);
+		assertThat(snapshotRepository.findById(fastUser)).get()
+				.extracting(snapshot -> snapshot.getBalance()).isEqualTo(200L);
+		assertThat(walletService.getLedgerBalance(slowUser)).isEqualTo(walletService.getBalance(slowUser));
+		assertThat(walletService.getLedgerBalance(fastUser)).isEqualTo(walletService.getBalance(fastUser));
+	}
+
+	@Test
+	void ledgerBalanceCombinesSnapshotWithNewerEntries() {
+		Long userId = saveUser("snapshot-user");
+		walletService.credit(userId, 500, PointTransactionType.CHARGE, "test");
+		walletService.debit(userId, 120, PointTransactionType.ITEM_PURCHASE, "item");
+
+		clock.advance(Duration.ofHours(3));
+		assertThat(snapshotJob.snapshot()).isEqualTo(1);
+		walletService.credit(userId, 40, PointTransactionType.CHARGE, "test");
+
+		assertThat(snapshotRepository.findById(userId)).get()
+				.extracting(snapshot -> snapshot.getBalance()).isEqualTo(380L);
+		assertThat(walletService.getLedgerBalance(userId)).isEqualTo(420L);
+		assertThat(walletService.getBalance(userId)).isEqualTo(420L);
+	}
+
+	private Long saveUser(String userName) {
+		return userRepository.save(User.builder()
+				.userName(userName)
+				.password("password")
+				.gender(Gender.MALE)
+				.age(Age.TEENS_20S)
+				.build()).getId();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	static class MutableClock extends Clock {
+
+		private volatile Instant now;
+		private final ZoneId zone;
+
+		MutableClock(Instant now, ZoneId zone) {
+			this.now = now;
+			this.zone = zone;
+		}
+
+		void set(Instant instant) {
+			now = instant;
+		}
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return zone;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return new MutableClock(now, zone);
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
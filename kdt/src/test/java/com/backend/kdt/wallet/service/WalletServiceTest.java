@@ -0,0 +1,129 @@
+package com.backend.kdt.wallet.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.backend.kdt.auth.entity.Age;
+import com.backend.kdt.auth.entity.Gender;
+import com.backend.kdt.auth.entity.User;
+import com.backend.kdt.auth.repository.UserRepository;
+import com.backend.kdt.wallet.entity.PointTransactionType;
+import com.backend.kdt.wallet.repository.PointLedgerRepository;
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 동시 차감을 실제 커밋으로 검증하므로 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({WalletService.class, WalletServiceTest.ClockConfig.class})
+class WalletServiceTest {
+
+	@TestConfiguration
+	static class ClockConfig {
+		@Bean
+		Clock clock() {
+			return Clock.system(ZoneId.of("Asia/Seoul"));
+		}
+	}
+
+	@Autowired
+	private WalletService walletService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PointLedgerRepository ledgerRepository;
+
+	private Long userId;
+
+	@BeforeEach
+	void setUp() {
+		userId = userRepository.save(User.builder()
+				.userName("wallet-user")
+				.password("password")
+				.gender(Gender.MALE)
+				.age(Age.TEENS_20S)
+				.build()).getId();
+	}
+
+	@AfterEach
+	void tearDown() {
+		ledgerRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	void concurrentDebitsNeverOverspend() throws Exception {
+		walletService.credit(userId, 1000, PointTransactionType.CHARGE, "test");
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 30; i++) {
+				results.add(executor.submit(() -> {
+					try {
+						walletService.debit(userId, 100, PointTransactionType.ITEM_PURCHASE, "item");
+						return true;
+					} catch (IllegalArgumentException e) {
+						return false;
+					}
+				}));
+			}
+			int succeeded = 0;
+			for (Future<Boolean> result : results) {
+				if (result.get(10, TimeUnit.SECONDS)) {
+					succeeded++;
+				}
+			}
+
+			assertThat(succeeded).isEqualTo(10);
+			assertThat(walletService.getBalance(userId)).isZero();
+			// 충전 1건 + 성공한 차감만 원장에 남음
+			assertThat(ledgerRepository.count()).isEqualTo(1 + succeeded);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void ledgerTotalMatchesUserPoint() {
+		walletService.credit(userId, 500, PointTransactionType.CHARGE, "test");
+		walletService.debit(userId, 120, PointTransactionType.ITEM_PURCHASE, "item");
+		walletService.credit(userId, 40, PointTransactionType.CHARGE, "test");
+		walletService.debit(userId, 300, PointTransactionType.DONATION, "product");
+
+		long balance = walletService.getBalance(userId);
+		assertThat(balance).isEqualTo(120);
+		assertThat(ledgerRepository.sumAmount(userId)).isEqualTo(balance);
+		assertThat(walletService.getLedgerBalance(userId)).isEqualTo(balance);
+	}
+
+	@Test
+	void failedDebitLeavesNoLedgerEntry() {
+		walletService.credit(userId, 50, PointTransactionType.CHARGE, "test");
+
+		assertThatThrownBy(() -> walletService.debit(userId, 100, PointTransactionType.ITEM_PURCHASE, "item"))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(walletService.getBalance(userId)).isEqualTo(50);
+		assertThat(ledgerRepository.sumAmount(userId)).isEqualTo(50);
+		assertThat(ledgerRepository.count()).isEqualTo(1);
+	}
+}